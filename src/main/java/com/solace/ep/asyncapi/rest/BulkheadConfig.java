@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.solace.ep.asyncapi.rest.health.ImportLoadMonitor;
+
+/**
+ * Bulkheads: import requests and lightweight lookups (token validation, application
+ * domain queries) are processed on separate, sized thread pools, so that a wave of
+ * imports cannot exhaust the capacity used by lookups, or the servlet request threads
+ * used by alive, readiness, and liveness checks.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    public static final String IMPORT_REQUEST_EXECUTOR = "importRequestExecutor";
+
+    public static final String LOOKUP_EXECUTOR = "lookupExecutor";
+
+    @Value("${importer.bulkhead.import-requests.threads:32}")
+    private int importRequestThreads;
+
+    @Value("${importer.bulkhead.import-requests.queue-capacity:200}")
+    private int importRequestQueueCapacity;
+
+    @Value("${importer.bulkhead.lookups.threads:16}")
+    private int lookupThreads;
+
+    @Value("${importer.bulkhead.lookups.queue-capacity:100}")
+    private int lookupQueueCapacity;
+
+    @Value("${spring.lifecycle.timeout-per-shutdown-phase:120s}")
+    private Duration shutdownTimeout;
+
+    @Bean(name = IMPORT_REQUEST_EXECUTOR)
+    public ThreadPoolTaskExecutor importRequestExecutor(ImportLoadMonitor importLoadMonitor)
+    {
+        final ThreadPoolTaskExecutor executor = executor("import-request-", importRequestThreads, importRequestQueueCapacity);
+        importLoadMonitor.registerPool("import-requests", executor::getThreadPoolExecutor);
+        return executor;
+    }
+
+    @Bean(name = LOOKUP_EXECUTOR)
+    public ThreadPoolTaskExecutor lookupExecutor(ImportLoadMonitor importLoadMonitor)
+    {
+        final ThreadPoolTaskExecutor executor = executor("lookup-", lookupThreads, lookupQueueCapacity);
+        importLoadMonitor.registerPool("lookups", executor::getThreadPoolExecutor);
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor executor(
+        final String threadNamePrefix,
+        final int threads,
+        final int queueCapacity
+    )
+    {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        // Let in-flight requests complete on shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int) shutdownTimeout.getSeconds());
+        return executor;
+    }
+}
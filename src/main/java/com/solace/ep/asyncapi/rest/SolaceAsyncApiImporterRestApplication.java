@@ -17,14 +17,34 @@
 
 package com.solace.ep.asyncapi.rest;
 
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.util.ClassUtils;
 
 @SpringBootApplication
+@EnableScheduling
 public class SolaceAsyncApiImporterRestApplication {
 
 	public static void main(String[] args) {
+		enableAotIfGenerated();
 		SpringApplication.run(SolaceAsyncApiImporterRestApplication.class, args);
 	}
 
+	/**
+	 * Use Spring AOT code when the jar was built with the 'cds' profile. Jars built without
+	 * it run normally; an explicit -Dspring.aot.enabled setting takes precedence.
+	 */
+	private static void enableAotIfGenerated() {
+		if (System.getProperty(AotDetector.AOT_ENABLED) != null ||
+				Boolean.getBoolean("spring.aot.processing")) {
+			return;
+		}
+		final String aotInitializer = SolaceAsyncApiImporterRestApplication.class.getName() + "__ApplicationContextInitializer";
+		if (ClassUtils.isPresent(aotInitializer, SolaceAsyncApiImporterRestApplication.class.getClassLoader())) {
+			System.setProperty(AotDetector.AOT_ENABLED, "true");
+		}
+	}
+
 }
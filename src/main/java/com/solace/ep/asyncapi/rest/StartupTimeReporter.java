@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the time from JVM start until the service is ready to accept requests.
+ * The result is logged as a single line with a fixed prefix so that it can be
+ * collected and tracked across builds and deployments.
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static volatile long startupMillis = -1;
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationReadyEvent event)
+    {
+        final RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
+        startupMillis = System.currentTimeMillis() - runtimeMXBean.getStartTime();
+
+        final boolean cdsArchive = runtimeMXBean.getInputArguments().stream()
+                                    .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        log.info("STARTUP-TIME jvmToReadyMs={} contextMs={} springAot={} appCds={}",
+                    startupMillis,
+                    event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(),
+                    AotDetector.useGeneratedArtifacts(),
+                    cdsArchive);
+    }
+
+    /**
+     * Milliseconds from JVM start until the application was ready; -1 if not ready yet
+     * @return
+     */
+    public static long getStartupMillis()
+    {
+        return startupMillis;
+    }
+}
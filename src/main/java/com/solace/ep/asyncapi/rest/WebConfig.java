@@ -20,6 +20,7 @@ package com.solace.ep.asyncapi.rest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -38,4 +39,16 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedOrigins(allowedOrigins)
             .allowedMethods("GET", "POST");
     }
+
+    @Value("${async.request-timeout-ms:60000}")
+    private long asyncRequestTimeoutMs;
+
+    /**
+     * Timeout for web methods returning asynchronous results (e.g. /importer/reactive/*,
+     * token validation and application domain queries); imports are not limited
+     */
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMs);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.apis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.AppDomainData;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.AppDomainPage;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.Meta;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.Pagination;
+
+/**
+ * Reads a page of the Event Portal application domains response with a token-level
+ * JSON parser. Only the ID and name of each application domain and the pagination
+ * metadata are extracted; all other fields are skipped without being bound to objects.
+ */
+class AppDomainPageReader {
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Read one page of application domains from a response body
+     * @param responseBody
+     * @return
+     * @throws IOException
+     */
+    static AppDomainPage read(final InputStream responseBody) throws IOException
+    {
+        try (JsonParser parser = jsonFactory.createParser(responseBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Application domains response is not a JSON object");
+            }
+            final List<AppDomainData> data = new ArrayList<>();
+            Meta meta = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken token = parser.nextToken();
+                if ("data".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.START_OBJECT) {
+                            data.add(readAppDomain(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("meta".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    meta = readMeta(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new AppDomainPage(data, meta);
+        }
+    }
+
+    private static AppDomainData readAppDomain(final JsonParser parser) throws IOException
+    {
+        String id = null, name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            if ("id".equals(fieldName) && token.isScalarValue()) {
+                id = parser.getValueAsString();
+            } else if ("name".equals(fieldName) && token.isScalarValue()) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new AppDomainData(id, name);
+    }
+
+    private static Meta readMeta(final JsonParser parser) throws IOException
+    {
+        Pagination pagination = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            if ("pagination".equals(fieldName) && token == JsonToken.START_OBJECT) {
+                pagination = readPagination(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Meta(pagination);
+    }
+
+    private static Pagination readPagination(final JsonParser parser) throws IOException
+    {
+        Integer pageNumber = null, count = null, pageSize = null, nextPage = null, totalPages = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (fieldName) {
+                case "pageNumber" -> pageNumber = parser.getIntValue();
+                case "count" -> count = parser.getIntValue();
+                case "pageSize" -> pageSize = parser.getIntValue();
+                case "nextPage" -> nextPage = parser.getIntValue();
+                case "totalPages" -> totalPages = parser.getIntValue();
+                default -> { }
+            }
+        }
+        return new Pagination(pageNumber, count, pageSize, nextPage, totalPages);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.apis;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.solace.ep.asyncapi.rest.jfr.CloudApiCallEvent;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+import com.solace.ep.asyncapi.rest.utils.ValidationUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Discovers the Solace Cloud region of an EP token (urlRegion=AUTO). The token permissions
+ * endpoint of every regional Solace Cloud API is probed concurrently; the first region to
+ * accept the token wins and the remaining probes are cancelled. Results are cached by
+ * token hash so that later requests with the same token do not probe again.
+ */
+@Slf4j
+public class RegionDiscovery {
+
+    private static final List<String> REGION_URLS = List.of(
+                    ValidationUtils.URL_US,
+                    ValidationUtils.URL_EU,
+                    ValidationUtils.URL_AU,
+                    ValidationUtils.URL_SG);
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final long CACHE_TTL_MILLIS = 60 * 60 * 1000L;
+
+    private static final int CACHE_MAX_ENTRIES = 10_000;
+
+    public static final String REGION_NOT_FOUND_MSG = "Token Failed Validation in all Solace Cloud regions";
+
+    private record CachedRegion(String url, long expiresAt) {}
+
+    // Least recently used entry is evicted on insert once the cache is full
+    private static final Map<String, CachedRegion> regionCache = Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, CachedRegion> eldest) {
+                        return size() > CACHE_MAX_ENTRIES;
+                    }
+                });
+
+    /**
+     * Get Solace Cloud API URL cached for the token, if any
+     * @param epToken
+     * @return URL or null if not cached
+     */
+    public static String getCachedUrl(final String epToken)
+    {
+        final String tokenHash = HashUtils.sha256Hex(epToken);
+        final CachedRegion cachedRegion = regionCache.get(tokenHash);
+        if (cachedRegion == null) {
+            return null;
+        }
+        if (cachedRegion.expiresAt() < System.currentTimeMillis()) {
+            regionCache.remove(tokenHash, cachedRegion);
+            return null;
+        }
+        return cachedRegion.url();
+    }
+
+    /**
+     * Probe all regions concurrently for the token. A successful probe is a successful
+     * token validation for that region. Concurrent discoveries for the same token share
+     * one set of probes.
+     * @param epToken
+     * @return Mono emitting the Solace Cloud API URL that accepted the token; empty if none did
+     */
+    public static Mono<String> discoverUrl(final String epToken)
+    {
+        return SingleFlight.executeMono(SingleFlight.OP_REGION_DISCOVERY, epToken, ValidationUtils.REGION_AUTO,
+                    () -> probeAllRegions(epToken));
+    }
+
+    private static Mono<String> probeAllRegions(final String epToken)
+    {
+        return Mono.firstWithValue(REGION_URLS.stream().map(url -> probe(epToken, url)).toList())
+            .doOnNext(url -> {
+                regionCache.put(HashUtils.sha256Hex(epToken), new CachedRegion(url, System.currentTimeMillis() + CACHE_TTL_MILLIS));
+                log.info("Solace Cloud region discovered for token: {}", url);
+            })
+            .onErrorResume(exc -> {
+                // firstWithValue signals an error when no probe emits a value
+                log.warn("Solace Cloud region could not be discovered for token");
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * Resolve Solace Cloud API URL for the token from the cache, or by probing all regions
+     * @param epToken
+     * @return Mono emitting the URL; empty if no region accepted the token
+     */
+    public static Mono<String> resolveUrl(final String epToken)
+    {
+        final String cachedUrl = getCachedUrl(epToken);
+        return cachedUrl != null ? Mono.just(cachedUrl) : discoverUrl(epToken);
+    }
+
+    /**
+     * Blocking version of {@link #resolveUrl(String)}
+     * @param epToken
+     * @return URL or null if no region accepted the token
+     */
+    public static String resolveUrlBlocking(final String epToken)
+    {
+        return resolveUrl(epToken).block(PROBE_TIMEOUT.plusSeconds(1));
+    }
+
+    /**
+     * Validate EP token without a known region. If the region is cached for the token, the
+     * token is validated against that region; otherwise the region probe validates the token.
+     * @param epToken
+     * @return Mono emitting the ResponseEntity to return as result of POST method
+     */
+    public static Mono<ResponseEntity<AsyncApiImportResponse>> validateEpToken(final String epToken)
+    {
+        final String cachedUrl = getCachedUrl(epToken);
+        if (cachedUrl != null) {
+            return SolaceCloudReactiveApiCalls.validateEpToken(epToken, cachedUrl);
+        }
+        return discoverUrl(epToken)
+            .map(url -> {
+                AsyncApiImportResponse response = new AsyncApiImportResponse();
+                response.getMsgs().add("SUCCESS");
+                response.getMsgs().add("Solace Cloud API URL: " + url);
+                return new ResponseEntity<>(response, HttpStatus.OK);
+            })
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+                AsyncApiImportResponse response = new AsyncApiImportResponse();
+                response.getMsgs().add(REGION_NOT_FOUND_MSG);
+                return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+            }));
+    }
+
+    private static Mono<String> probe(
+        final String epToken,
+        final String cloudApiBaseUrl
+    )
+    {
+        final String tokenValidationUrl = cloudApiBaseUrl + ValidationUtils.TOKEN_PERMISSIONS_PATH;
+        return CloudApiCallEvent.record(HttpMethod.GET.name(), tokenValidationUrl, apiCallEvent -> SolaceCloudReactiveApiCalls.getWebClient().get()
+            .uri(tokenValidationUrl)
+            .headers(headers -> headers.setBearerAuth(epToken))
+            .exchangeToMono(clientResponse -> {
+                apiCallEvent.setStatus(clientResponse.statusCode().value());
+                return clientResponse.statusCode().is2xxSuccessful() ?
+                        clientResponse.releaseBody().thenReturn(cloudApiBaseUrl) :
+                        clientResponse.releaseBody().then(Mono.<String>empty());
+            })
+            .timeout(PROBE_TIMEOUT))
+            .doOnSubscribe(subscription -> log.debug("Probing Solace Cloud region: {}", cloudApiBaseUrl))
+            .onErrorResume(exc -> Mono.empty());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.apis;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces identical read requests to the Solace Cloud API. While a call for an
+ * operation, EP token, and URL is in flight, other callers for the same key wait for and
+ * share its result instead of making their own call. Results are not cached; the next
+ * call after completion goes upstream.
+ * <p>
+ * Shared results must be treated as read-only by callers.
+ */
+@Slf4j
+public class SingleFlight {
+
+    public static final String
+                OP_VALIDATE_TOKEN = "validate-token",
+                OP_APP_DOMAINS = "appdomains",
+                OP_REGION_DISCOVERY = "region-discovery";
+
+    private static final ConcurrentMap<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Execute a blocking call, or wait for the identical call already in flight
+     * @param <T>
+     * @param operation
+     * @param epToken
+     * @param url
+     * @param call
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T execute(
+        final String operation,
+        final String epToken,
+        final String url,
+        final Supplier<T> call
+    )
+    {
+        final String key = key(operation, epToken, url);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final CompletableFuture<?> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            log.debug("Joined in-flight {} request", operation);
+            try {
+                return (T) existing.join();
+            } catch (CompletionException completionExc) {
+                if (completionExc.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (completionExc.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw completionExc;
+            }
+        }
+        try {
+            final T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (Throwable exc) {
+            // Includes Errors, so that waiting callers never block on an abandoned future
+            future.completeExceptionally(exc);
+            throw exc;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Execute a non-blocking call, or share the identical call already in flight.
+     * The call runs to completion even if subscribers cancel, so that other waiting
+     * callers receive the result.
+     * @param <T>
+     * @param operation
+     * @param epToken
+     * @param url
+     * @param call
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Mono<T> executeMono(
+        final String operation,
+        final String epToken,
+        final String url,
+        final Supplier<Mono<T>> call
+    )
+    {
+        return Mono.defer(() -> {
+            final String key = key(operation, epToken, url);
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            final CompletableFuture<?> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                log.debug("Joined in-flight {} request", operation);
+                return Mono.fromFuture((CompletableFuture<T>) existing, true);
+            }
+            // Deferred so that a call that throws instead of returning a Mono also releases the key
+            Mono.defer(call).subscribe(
+                future::complete,
+                exc -> {
+                    inFlight.remove(key, future);
+                    future.completeExceptionally(exc);
+                },
+                () -> {
+                    inFlight.remove(key, future);
+                    future.complete(null);
+                });
+            return Mono.fromFuture(future, true);
+        });
+    }
+
+    private static String key(
+        final String operation,
+        final String epToken,
+        final String url
+    )
+    {
+        return operation + "|" + HashUtils.sha256Hex(epToken) + "|" + url;
+    }
+}
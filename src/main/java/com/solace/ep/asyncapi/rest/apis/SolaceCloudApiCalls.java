@@ -17,19 +17,21 @@
 
 package com.solace.ep.asyncapi.rest.apis;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
-import com.solace.cloud.ep.designer.ApiClient;
-import com.solace.cloud.ep.designer.ApiException;
-import com.solace.cloud.ep.designer.api.ApplicationDomainsApi;
-import com.solace.cloud.ep.designer.auth.HttpBearerAuth;
-import com.solace.cloud.ep.designer.model.ApplicationDomainsResponse;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.AppDomainPage;
+import com.solace.ep.asyncapi.rest.jfr.CloudApiCallEvent;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
@@ -43,6 +45,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SolaceCloudApiCalls {
 
+    // Application domains requested per page
+    private static final int APP_DOMAIN_PAGE_SIZE = 20;
+
+    // Bounds on each Solace Cloud API call, so that a stalled call cannot hold a thread indefinitely
+    public static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    public static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final RestTemplate restTemplate = createRestTemplate();
+
+    private static RestTemplate createRestTemplate()
+    {
+        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        return new RestTemplate(requestFactory);
+    }
+
     /**
      * Validate Event Portal Token
      * @param epToken - Token to validate as String
@@ -59,13 +79,15 @@ public class SolaceCloudApiCalls {
         AsyncApiImportResponse response = new AsyncApiImportResponse();
         HttpStatus httpStatus = null;
         String responseMessage = null;
+        final CloudApiCallEvent apiCallEvent = CloudApiCallEvent.start(
+                    CloudApiCallEvent.CLIENT_REST_TEMPLATE, HttpMethod.GET.name(), cloudApiTokenValidationUrl);
 
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setBearerAuth(epToken);
             HttpEntity<String> entity = new HttpEntity<>(headers);
-            RestTemplate restTemplate = new RestTemplate();
             ResponseEntity<String> apiResponse = restTemplate.exchange(cloudApiTokenValidationUrl, HttpMethod.GET, entity, String.class);
+            apiCallEvent.setStatus(apiResponse.getStatusCode().value());
             if (apiResponse.getStatusCode().is2xxSuccessful()) {
                 log.info("Successful Token Validation; HTTP Response: {}", apiResponse.getStatusCode().toString());
                 responseMessage = "SUCCESS";
@@ -75,17 +97,49 @@ public class SolaceCloudApiCalls {
                 responseMessage = "Token Failed Validation";
                 httpStatus = HttpStatus.valueOf(apiResponse.getStatusCode().value());
             }
+        } catch (RestClientResponseException restClientException) {
+            apiCallEvent.setStatus(restClientException.getStatusCode().value());
+            responseMessage = tokenValidationErrorMessage(
+                        restClientException.getStatusCode().value(), restClientException.getResponseBodyAsString());
+            log.error("AsyncApiImportController.validateToken: {}", responseMessage);
+            httpStatus = HttpStatus.UNAUTHORIZED;
         } catch (Exception exc) {
             responseMessage = redactBearerTokenFromMessage(exc.getLocalizedMessage());
             log.error("AsyncApiImportController.validateToken: {}", responseMessage);
             httpStatus = HttpStatus.UNAUTHORIZED;
         }
+        apiCallEvent.end(httpStatus == HttpStatus.OK ? "ok" : "failed");
         response.getMsgs().add(responseMessage == null ? "Unknown Status" : responseMessage);
         return new ResponseEntity<AsyncApiImportResponse>(response, httpStatus);
     }
 
-    private static String redactBearerTokenFromMessage(final String msg)
+    /**
+     * Message returned when the Solace Cloud API rejects token validation with an HTTP
+     * error; shared by the blocking and non-blocking token validation operations
+     * @param statusCode - HTTP status code returned by Solace Cloud API
+     * @param responseBody - Response body returned by Solace Cloud API
+     * @return
+     */
+    public static String tokenValidationErrorMessage(final int statusCode, final String responseBody)
+    {
+        final HttpStatus httpStatus = HttpStatus.resolve(statusCode);
+        final String preface = statusCode + (httpStatus == null ? "" : " " + httpStatus.getReasonPhrase()) + ": ";
+        if (responseBody == null || responseBody.isEmpty()) {
+            return preface + "[no body]";
+        }
+        return redactBearerTokenFromMessage(preface + "\"" + responseBody + "\"");
+    }
+
+    /**
+     * Remove bearer token from error messages returned by HTTP clients
+     * @param msg
+     * @return
+     */
+    public static String redactBearerTokenFromMessage(final String msg)
     {
+        if (msg == null) {
+            return null;
+        }
         final int bearerTokenPositionInMsg = msg.indexOf(" Bearer ");
         if (bearerTokenPositionInMsg > 0) {
             // Redact Token in error message
@@ -96,7 +150,8 @@ public class SolaceCloudApiCalls {
 
     /**
      * Calls Solace Cloud API using EP bearer token passed as parameter, returns a list of
-     * application domains as ID-Name elements
+     * application domains as ID-Name elements. Each page is read as a stream; only the ID
+     * and name of each domain and the pagination metadata are extracted.
      * @param epToken
      * @param resolvedUrl
      * @return ResponseEntity to return
@@ -106,30 +161,51 @@ public class SolaceCloudApiCalls {
         String resolvedUrl
     )
     {
-        final ApiClient apiClient = getApiClient(epToken, resolvedUrl);
-        final ApplicationDomainsApi applicationDomainsApi = new ApplicationDomainsApi(apiClient);
         final AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
 
         try {
             int maxPages = 1;
             for (int page = 1; page <= maxPages; page++) {
-                ApplicationDomainsResponse appDomainResponse = applicationDomainsApi.getApplicationDomains(20, page, null, null, null);
-                if (appDomainResponse.getData().isEmpty()) {
+                final CloudApiCallEvent apiCallEvent = CloudApiCallEvent.start(
+                            CloudApiCallEvent.CLIENT_REST_TEMPLATE, HttpMethod.GET.name(), resolvedUrl + SolaceCloudReactiveApiCalls.APP_DOMAINS_PATH);
+                final AppDomainPage appDomainPage;
+                try {
+                    appDomainPage = restTemplate.execute(
+                        resolvedUrl + SolaceCloudReactiveApiCalls.APP_DOMAINS_PATH + "?pageSize=" + APP_DOMAIN_PAGE_SIZE + "&pageNumber=" + page,
+                        HttpMethod.GET,
+                        request -> {
+                            request.getHeaders().setBearerAuth(epToken);
+                            request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                        },
+                        clientResponse -> AppDomainPageReader.read(clientResponse.getBody()));
+                    apiCallEvent.setStatus(HttpStatus.OK.value());
+                    apiCallEvent.end("ok");
+                } catch (RestClientResponseException restClientException) {
+                    apiCallEvent.setStatus(restClientException.getStatusCode().value());
+                    apiCallEvent.end("failed");
+                    throw restClientException;
+                } catch (RuntimeException exc) {
+                    // I/O errors, connection failures, and response parsing errors
+                    apiCallEvent.end("failed");
+                    throw exc;
+                }
+                if (appDomainPage == null || appDomainPage.dataOrEmpty().isEmpty()) {
                     break;
                 }
-                if (page == 1 && appDomainResponse.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = appDomainResponse.getMeta().getPagination().getTotalPages();
+                if (page == 1) {
+                    maxPages = appDomainPage.totalPages();
                 }
-                appDomainResponse.getData().forEach( appDomain -> {
-                    response.getApplicationDomains().add(new AppDomainItem(appDomain.getId(), appDomain.getName()));
+                appDomainPage.dataOrEmpty().forEach( appDomain -> {
+                    response.getApplicationDomains().add(new AppDomainItem(appDomain.id(), appDomain.name()));
                 } );
             }
-        } catch (ApiException apiException) {
+        } catch (RestClientResponseException restClientException) {
+            final String responseMessage = redactBearerTokenFromMessage(restClientException.getMessage());
             log.error("SolaceCloudApiCalls.getAppDomainsFromSolaceCloudApi failed; Code: {}; Message: '{}'", 
-                        apiException.getCode(), redactBearerTokenFromMessage(apiException.getMessage()));
+                        restClientException.getStatusCode().value(), responseMessage);
             AsyncApiImportAppDomainResponse apiExcResponse = new AsyncApiImportAppDomainResponse();
-            response.getMsgs().add(apiException.getMessage());
-            return new ResponseEntity<>(apiExcResponse, HttpStatusCode.valueOf(apiException.getCode()));
+            apiExcResponse.getMsgs().add(responseMessage);
+            return new ResponseEntity<>(apiExcResponse, restClientException.getStatusCode());
         } catch (Exception exc) {
             log.error("SolaceCloudApiCalls.getAppDomainsFromSolaceCloudApi failed; Error: {}", redactBearerTokenFromMessage(exc.getMessage()));
             AsyncApiImportAppDomainResponse excResponse = new AsyncApiImportAppDomainResponse();
@@ -138,23 +214,4 @@ public class SolaceCloudApiCalls {
         }
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
-
-    /**
-     * Get Solace Cloud ApiClient object using Solace Cloud API endpoint and EP bearer
-     * token passed as parameters
-     * @param epToken
-     * @param resolvedUrl
-     * @return
-     */
-    public static ApiClient getApiClient(
-        String epToken,
-        String resolvedUrl
-    ) 
-    {
-        ApiClient apiClient = new ApiClient();
-        apiClient.setBasePath(resolvedUrl);
-        HttpBearerAuth apiToken = (HttpBearerAuth)apiClient.getAuthentication("APIToken");
-        apiToken.setBearerToken(epToken);
-        return apiClient;
-    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.apis;
+
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.solace.ep.asyncapi.rest.jfr.CloudApiCallEvent;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+import com.solace.ep.asyncapi.rest.utils.ValidationUtils;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Non-blocking versions of the Solace Cloud API calls in {@link SolaceCloudApiCalls}.
+ * Calls are executed on the shared WebClient event loop; no request thread is held
+ * while waiting for the Solace Cloud API to respond.
+ */
+@Slf4j
+public class SolaceCloudReactiveApiCalls {
+
+    public static final String APP_DOMAINS_PATH = "/api/v2/architecture/applicationDomains";
+
+    // Maximum page size supported by the Event Portal API
+    private static final int APP_DOMAIN_PAGE_SIZE = 100;
+
+    // Maximum number of app domain pages requested concurrently
+    private static final int APP_DOMAIN_PAGE_CONCURRENCY = 4;
+
+    private static final WebClient webClient = WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) SolaceCloudApiCalls.CONNECT_TIMEOUT.toMillis())
+                        .responseTimeout(SolaceCloudApiCalls.READ_TIMEOUT)))
+                    .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                    .build();
+
+    /**
+     * Get the shared WebClient
+     * @return
+     */
+    public static WebClient getWebClient()
+    {
+        return webClient;
+    }
+
+    /**
+     * Validate Event Portal Token
+     * @param epToken - Token to validate as String
+     * @param cloudApiBaseUrl - Solace Cloud API base URL
+     * @return - Mono emitting the ResponseEntity to return as result of POST method
+     */
+    public static Mono<ResponseEntity<AsyncApiImportResponse>> validateEpToken(
+        final String epToken,
+        final String cloudApiBaseUrl
+    )
+    {
+        final String tokenValidationUrl = cloudApiBaseUrl + ValidationUtils.TOKEN_PERMISSIONS_PATH;
+        return CloudApiCallEvent.record(HttpMethod.GET.name(), tokenValidationUrl, apiCallEvent -> webClient.get()
+            .uri(tokenValidationUrl)
+            .headers(headers -> headers.setBearerAuth(epToken))
+            .exchangeToMono(clientResponse -> {
+                apiCallEvent.setStatus(clientResponse.statusCode().value());
+                if (clientResponse.statusCode().is2xxSuccessful()) {
+                    log.info("Successful Token Validation; HTTP Response: {}", clientResponse.statusCode().toString());
+                    return clientResponse.releaseBody().thenReturn(tokenResponse("SUCCESS", HttpStatus.OK));
+                }
+                return clientResponse.bodyToMono(String.class).defaultIfEmpty("").map(body -> {
+                    if (clientResponse.statusCode().isError()) {
+                        // Same status and message as the blocking operation
+                        final String responseMessage = SolaceCloudApiCalls.tokenValidationErrorMessage(clientResponse.statusCode().value(), body);
+                        log.error("SolaceCloudReactiveApiCalls.validateEpToken: {}", responseMessage);
+                        return tokenResponse(responseMessage, HttpStatus.UNAUTHORIZED);
+                    }
+                    log.warn("Token Validation Failed; HTTP Response Code: {}; Message: {}", clientResponse.statusCode().toString(), body);
+                    return tokenResponse("Token Failed Validation", HttpStatus.valueOf(clientResponse.statusCode().value()));
+                });
+            }))
+            .onErrorResume(exc -> {
+                final String responseMessage = SolaceCloudApiCalls.redactBearerTokenFromMessage(exc.getLocalizedMessage());
+                log.error("SolaceCloudReactiveApiCalls.validateEpToken: {}", responseMessage);
+                return Mono.just(tokenResponse(responseMessage == null ? "Unknown Status" : responseMessage, HttpStatus.UNAUTHORIZED));
+            });
+    }
+
+    private static ResponseEntity<AsyncApiImportResponse> tokenResponse(
+        final String responseMessage,
+        final HttpStatus httpStatus
+    )
+    {
+        AsyncApiImportResponse response = new AsyncApiImportResponse();
+        response.getMsgs().add(responseMessage);
+        return new ResponseEntity<>(response, httpStatus);
+    }
+
+    /**
+     * Calls Solace Cloud API using EP bearer token passed as parameter, returns a list of
+     * application domains as ID-Name elements.
+     * @param epToken
+     * @param resolvedUrl
+     * @return Mono emitting the ResponseEntity to return
+     */
+    public static Mono<ResponseEntity<AsyncApiImportAppDomainResponse>> getAppDomainsFromSolaceCloudApi(
+        final String epToken,
+        final String resolvedUrl
+    )
+    {
+        return getAppDomainItems(epToken, resolvedUrl)
+            .collectList()
+            .map(appDomains -> {
+                final AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+                response.getApplicationDomains().addAll(appDomains);
+                return new ResponseEntity<>(response, HttpStatus.OK);
+            })
+            .onErrorResume(exc -> {
+                final String responseMessage = SolaceCloudApiCalls.redactBearerTokenFromMessage(exc.getMessage());
+                final AsyncApiImportAppDomainResponse excResponse = new AsyncApiImportAppDomainResponse();
+                excResponse.getMsgs().add(responseMessage);
+                if (exc instanceof WebClientResponseException webClientException) {
+                    log.error("SolaceCloudReactiveApiCalls.getAppDomainsFromSolaceCloudApi failed; Code: {}; Message: '{}'",
+                                webClientException.getStatusCode().value(), responseMessage);
+                    return Mono.just(new ResponseEntity<>(excResponse, HttpStatusCode.valueOf(webClientException.getStatusCode().value())));
+                }
+                log.error("SolaceCloudReactiveApiCalls.getAppDomainsFromSolaceCloudApi failed; Error: {}", responseMessage);
+                return Mono.just(new ResponseEntity<>(excResponse, HttpStatus.INTERNAL_SERVER_ERROR));
+            });
+    }
+
+    /**
+     * Retrieve all application domains as ID-Name elements. The first page is retrieved to
+     * determine the page count, then the remaining pages are retrieved concurrently.
+     * Elements are emitted in page order.
+     * @param epToken
+     * @param resolvedUrl
+     * @return
+     */
+    public static Flux<AppDomainItem> getAppDomainItems(
+        final String epToken,
+        final String resolvedUrl
+    )
+    {
+        return getAppDomainPage(epToken, resolvedUrl, 1)
+            .flatMapMany(firstPage -> {
+                final int maxPages = firstPage.nextPageAvailable() ? firstPage.totalPages() : 1;
+                return Flux.concat(
+                    Mono.just(firstPage),
+                    Flux.range(2, Math.max(0, maxPages - 1))
+                        .flatMapSequential(page -> getAppDomainPage(epToken, resolvedUrl, page), APP_DOMAIN_PAGE_CONCURRENCY)
+                );
+            })
+            .concatMapIterable(AppDomainPage::dataOrEmpty)
+            .map(appDomain -> new AppDomainItem(appDomain.id(), appDomain.name()));
+    }
+
+    private static Mono<AppDomainPage> getAppDomainPage(
+        final String epToken,
+        final String resolvedUrl,
+        final int pageNumber
+    )
+    {
+        return CloudApiCallEvent.record(HttpMethod.GET.name(), resolvedUrl + APP_DOMAINS_PATH, apiCallEvent -> webClient.get()
+            .uri(resolvedUrl + APP_DOMAINS_PATH + "?pageSize={pageSize}&pageNumber={pageNumber}", APP_DOMAIN_PAGE_SIZE, pageNumber)
+            .headers(headers -> headers.setBearerAuth(epToken))
+            .retrieve()
+            .bodyToMono(AppDomainPage.class));
+    }
+
+    /*
+     * Projections of the Event Portal application domains response;
+     * only the fields used by this service are deserialized
+     */
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AppDomainPage(List<AppDomainData> data, Meta meta) {
+
+        List<AppDomainData> dataOrEmpty() {
+            return data == null ? List.of() : data;
+        }
+
+        boolean nextPageAvailable() {
+            return meta != null && meta.pagination() != null && meta.pagination().nextPage() != null;
+        }
+
+        int totalPages() {
+            return nextPageAvailable() && meta.pagination().totalPages() != null ? meta.pagination().totalPages() : 1;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AppDomainData(String id, String name) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Meta(Pagination pagination) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Pagination(Integer pageNumber, Integer count, Integer pageSize, Integer nextPage, Integer totalPages) {}
+}
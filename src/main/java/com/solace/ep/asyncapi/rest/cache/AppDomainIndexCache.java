@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudApiCalls;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived cache of the application domain index (name to ID) per EP token and
+ * Solace Cloud API URL. The index is retrieved in bulk with concurrent paging and
+ * shared across requests, so back-to-back imports targeting a domain by name do not
+ * each traverse the application domain list. Concurrent requests for the same key
+ * share a single load.
+ * <p>
+ * A name that is not in the index causes at most one reload per key per
+ * reload-interval-seconds, shared by concurrent requests, and a name still not found
+ * after a reload is remembered as missing for negative-ttl-seconds.
+ */
+@Slf4j
+@Component
+public class AppDomainIndexCache {
+
+    @Value("${importer.domain-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${importer.domain-index.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${importer.domain-index.load-timeout-seconds:30}")
+    private long loadTimeoutSeconds;
+
+    @Value("${importer.domain-index.reload-interval-seconds:5}")
+    private long reloadIntervalSeconds;
+
+    @Value("${importer.domain-index.negative-ttl-seconds:10}")
+    private long negativeTtlSeconds;
+
+    private static final int MAX_MISSING_NAMES = 1024;        // Per cached index
+
+    private final ConcurrentMap<String, CachedIndex> cache = new ConcurrentHashMap<>();
+
+    private record CachedIndex(
+        long loadedAt,
+        CompletableFuture<Map<String, String>> idsByName,
+        ConcurrentMap<String, Long> missingSince
+    ) {}
+
+    /**
+     * Resolve application domain name to ID. If the name is not found in a cached index,
+     * the index is reloaded in case the domain was created after it was loaded, unless
+     * the index was loaded within reload-interval-seconds or the name was not found by a
+     * reload within negative-ttl-seconds. A failed load is not retried by the same call.
+     * @param epToken
+     * @param resolvedUrl
+     * @param appDomainName
+     * @return Application domain ID or null if not found or the index could not be loaded
+     */
+    public String resolveAppDomainId(
+        final String epToken,
+        final String resolvedUrl,
+        final String appDomainName
+    )
+    {
+        if (!enabled || appDomainName == null) {
+            return null;
+        }
+        final String key = cacheKey(epToken, resolvedUrl);
+        final CachedIndex cachedIndex = getIndex(key, null, epToken, resolvedUrl);
+        final Map<String, String> idsByName = awaitIndex(key, cachedIndex);
+        if (idsByName == null) {
+            return null;
+        }
+        final String appDomainId = idsByName.get(appDomainName);
+        if (appDomainId != null || !isReloadAllowed(cachedIndex, appDomainName)) {
+            return appDomainId;
+        }
+        final CachedIndex reloadedIndex = getIndex(key, cachedIndex, epToken, resolvedUrl);
+        final Map<String, String> reloadedIdsByName = awaitIndex(key, reloadedIndex);
+        if (reloadedIdsByName == null) {
+            return null;
+        }
+        final String reloadedAppDomainId = reloadedIdsByName.get(appDomainName);
+        if (reloadedAppDomainId == null && reloadedIndex.missingSince().size() < MAX_MISSING_NAMES) {
+            reloadedIndex.missingSince().put(appDomainName, System.currentTimeMillis());
+        }
+        return reloadedAppDomainId;
+    }
+
+    /**
+     * Remove the cached index for an EP token and Solace Cloud API URL
+     * @param epToken
+     * @param resolvedUrl
+     */
+    public void invalidate(
+        final String epToken,
+        final String resolvedUrl
+    )
+    {
+        cache.remove(cacheKey(epToken, resolvedUrl));
+    }
+
+    /**
+     * Remove expired entries
+     */
+    @Scheduled(fixedDelayString = "${importer.domain-index.cleanup-interval-ms:60000}")
+    public void evictExpired()
+    {
+        cache.values().removeIf(this::isExpired);
+    }
+
+    /**
+     * Get the cached index for a key, loading it if there is none or it has expired
+     * @param key
+     * @param stale - Index to replace even if not expired, or null; if another request
+     * has already replaced it, that index is shared instead of loading another
+     * @param epToken
+     * @param resolvedUrl
+     * @return
+     */
+    private CachedIndex getIndex(
+        final String key,
+        final CachedIndex stale,
+        final String epToken,
+        final String resolvedUrl
+    )
+    {
+        return cache.compute(key, (k, existing) -> {
+            if (existing != null && existing != stale && !isExpired(existing)) {
+                return existing;
+            }
+            log.debug("Loading application domain index from Solace Cloud API");
+            return new CachedIndex(
+                System.currentTimeMillis(),
+                SolaceCloudReactiveApiCalls.getAppDomainItems(epToken, resolvedUrl)
+                    .collectMap(AppDomainItem::getName, AppDomainItem::getId, LinkedHashMap::new)
+                    .toFuture(),
+                new ConcurrentHashMap<>());
+        });
+    }
+
+    /**
+     * Wait for an index to load
+     * @param key
+     * @param cachedIndex
+     * @return Index, or null if it could not be loaded
+     */
+    private Map<String, String> awaitIndex(
+        final String key,
+        final CachedIndex cachedIndex
+    )
+    {
+        try {
+            return cachedIndex.idsByName().get(loadTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception exc) {
+            if (exc instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            cache.remove(key, cachedIndex);
+            log.warn("Could not load application domain index: {}", SolaceCloudApiCalls.redactBearerTokenFromMessage(exc.getMessage()));
+            return null;
+        }
+    }
+
+    private boolean isReloadAllowed(
+        final CachedIndex cachedIndex,
+        final String appDomainName
+    )
+    {
+        final long now = System.currentTimeMillis();
+        if (now - cachedIndex.loadedAt() < reloadIntervalSeconds * 1000L) {
+            return false;
+        }
+        final Long missingSince = cachedIndex.missingSince().get(appDomainName);
+        return missingSince == null || now - missingSince >= negativeTtlSeconds * 1000L;
+    }
+
+    private boolean isExpired(final CachedIndex cachedIndex)
+    {
+        return System.currentTimeMillis() - cachedIndex.loadedAt() > ttlSeconds * 1000L ||
+                cachedIndex.idsByName().isCompletedExceptionally();
+    }
+
+    private static String cacheKey(
+        final String epToken,
+        final String resolvedUrl
+    )
+    {
+        return HashUtils.sha256Hex(epToken) + "|" + resolvedUrl;
+    }
+}
@@ -17,25 +17,59 @@
 
 package com.solace.ep.asyncapi.rest.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.solace.ep.asyncapi.importer.AsyncApiImporter;
 import com.solace.ep.asyncapi.importer.EpImportOperator;
+import com.solace.ep.asyncapi.rest.BulkheadConfig;
+import com.solace.ep.asyncapi.rest.apis.RegionDiscovery;
+import com.solace.ep.asyncapi.rest.apis.SingleFlight;
 import com.solace.ep.asyncapi.rest.apis.SolaceCloudApiCalls;
+import com.solace.ep.asyncapi.rest.cache.AppDomainIndexCache;
+import com.solace.ep.asyncapi.rest.incremental.ImportFingerprint;
+import com.solace.ep.asyncapi.rest.incremental.ImportFingerprintStore;
+import com.solace.ep.asyncapi.rest.incremental.SpecFingerprints;
+import com.solace.ep.asyncapi.rest.jfr.ImportPhaseEvent;
+import com.solace.ep.asyncapi.rest.journal.ImportJournal;
+import com.solace.ep.asyncapi.rest.journal.ImportJournalEntry;
 import com.solace.ep.asyncapi.rest.log.MemoryAppender;
 import com.solace.ep.asyncapi.rest.models.AliveMessage;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportBinaryRequest;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportRequest;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportTokenRequest;
+import com.solace.ep.asyncapi.rest.service.FairImportScheduler;
+import com.solace.ep.asyncapi.rest.service.ImportCancelledException;
+import com.solace.ep.asyncapi.rest.service.ImportExecutionService;
+import com.solace.ep.asyncapi.rest.utils.AppDomainQuery;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
 import com.solace.ep.asyncapi.rest.utils.LogUtils;
 import com.solace.ep.asyncapi.rest.utils.ValidationUtils;
 
@@ -53,6 +87,113 @@ public class AsyncApiImportController {
     private static PatternLayoutEncoder encoder = LogUtils.getMemoryEncoder(context, "%-5level - %msg");
     private static AtomicInteger importRequestCounter = new AtomicInteger(0);
 
+    // Response header returning the import ID
+    public static final String IMPORT_ID_HEADER = "X-Import-Id";
+
+    // Request header with the time in milliseconds the client will wait for the import
+    public static final String IMPORT_TIMEOUT_HEADER = "X-Import-Timeout-Ms";
+
+    // Request header identifying the tenant for fair scheduling of imports; defaults to a hash of the EP token
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    // Async timeout for import requests; imports are limited by their own deadline
+    private static final Long NO_ASYNC_TIMEOUT = -1L;
+
+    private static final String CAPACITY_EXHAUSTED_MSG = "Request capacity exhausted; retry later";
+
+    // Media type of Jackson Smile binary JSON
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final ImportJournal importJournal;
+
+    private final AppDomainIndexCache appDomainIndexCache;
+
+    private final ImportFingerprintStore importFingerprintStore;
+
+    private final ImportExecutionService importExecutionService;
+
+    private final Executor importRequestExecutor;
+
+    private final Executor lookupExecutor;
+
+    @Value("${importer.execution.default-timeout-ms:0}")
+    private long defaultTimeoutMs;
+
+    public AsyncApiImportController(
+        ImportJournal importJournal,
+        AppDomainIndexCache appDomainIndexCache,
+        ImportFingerprintStore importFingerprintStore,
+        ImportExecutionService importExecutionService,
+        @Qualifier(BulkheadConfig.IMPORT_REQUEST_EXECUTOR) Executor importRequestExecutor,
+        @Qualifier(BulkheadConfig.LOOKUP_EXECUTOR) Executor lookupExecutor
+    )
+    {
+        this.importJournal = importJournal;
+        this.appDomainIndexCache = appDomainIndexCache;
+        this.importFingerprintStore = importFingerprintStore;
+        this.importExecutionService = importExecutionService;
+        this.importRequestExecutor = importRequestExecutor;
+        this.lookupExecutor = lookupExecutor;
+    }
+
+    /**
+     * Process a request on a bulkhead executor and release the servlet request thread
+     * @param <T>
+     * @param executor
+     * @param timeoutMs - Async timeout; null for the default timeout
+     * @param handler
+     * @param rejectedResponse - Response returned if the executor is at capacity
+     * @return
+     */
+    private static <T> DeferredResult<ResponseEntity<T>> submit(
+        final Executor executor,
+        final Long timeoutMs,
+        final Supplier<ResponseEntity<T>> handler,
+        final Supplier<ResponseEntity<T>> rejectedResponse
+    )
+    {
+        return submitAsync(executor, timeoutMs, () -> CompletableFuture.completedFuture(handler.get()), rejectedResponse);
+    }
+
+    /**
+     * Start a request on a bulkhead executor; the response is set when the future returned
+     * by the handler completes, so the executor thread is released as soon as the handler returns
+     * @param <T>
+     * @param executor
+     * @param timeoutMs - Async timeout; null for the default timeout
+     * @param handler
+     * @param rejectedResponse - Response returned if the executor is at capacity
+     * @return
+     */
+    private static <T> DeferredResult<ResponseEntity<T>> submitAsync(
+        final Executor executor,
+        final Long timeoutMs,
+        final Supplier<CompletableFuture<ResponseEntity<T>>> handler,
+        final Supplier<ResponseEntity<T>> rejectedResponse
+    )
+    {
+        final DeferredResult<ResponseEntity<T>> deferredResult = new DeferredResult<>(timeoutMs);
+        try {
+            executor.execute(() -> {
+                try {
+                    handler.get().whenComplete((result, exc) -> {
+                        if (exc != null) {
+                            deferredResult.setErrorResult(exc instanceof CompletionException && exc.getCause() != null ? exc.getCause() : exc);
+                        } else {
+                            deferredResult.setResult(result);
+                        }
+                    });
+                } catch (RuntimeException exc) {
+                    deferredResult.setErrorResult(exc);
+                }
+            });
+        } catch (RejectedExecutionException rejectedExc) {
+            log.warn("Request rejected; {}", CAPACITY_EXHAUSTED_MSG);
+            deferredResult.setResult(rejectedResponse.get());
+        }
+        return deferredResult;
+    }
+
     /**
      * For testing Server deployment checks
      * @return
@@ -73,11 +214,33 @@ public class AsyncApiImportController {
      * @return
      */
     @PostMapping("/importer/validate-token")
-    public ResponseEntity<AsyncApiImportResponse> validateToken(
+    public DeferredResult<ResponseEntity<AsyncApiImportResponse>> validateToken(
         @RequestBody AsyncApiImportTokenRequest request,
         @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
         @RequestParam(name = "urlOverride", required = false) String urlOverride
     )
+    {
+        return submit(lookupExecutor, null,
+                    () -> checkToken(request, urlRegion, urlOverride),
+                    () -> {
+                        AsyncApiImportResponse response = new AsyncApiImportResponse();
+                        response.getMsgs().add(CAPACITY_EXHAUSTED_MSG);
+                        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+                    });
+    }
+
+    /**
+     * Validate EP bearer token; runs on a lookup thread
+     * @param request
+     * @param urlRegion
+     * @param urlOverride
+     * @return
+     */
+    private ResponseEntity<AsyncApiImportResponse> checkToken(
+        final AsyncApiImportTokenRequest request,
+        final String urlRegion,
+        final String urlOverride
+    )
     {
         log.debug("/importer/validate-token invoked");
 
@@ -103,7 +266,13 @@ public class AsyncApiImportController {
             response.getMsgs().add(responseMessage == null ? "Unidentified Error" : responseMessage);
             return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
         }
-        return SolaceCloudApiCalls.validateEpToken(epToken, resolvedCloudApiUrl);
+        final String token = epToken, url = resolvedCloudApiUrl;
+        if (ValidationUtils.isAutoRegion(urlRegion, urlOverride)) {
+            return SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, token, ValidationUtils.REGION_AUTO,
+                        () -> RegionDiscovery.validateEpToken(token).block());
+        }
+        return SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, token, url,
+                    () -> SolaceCloudApiCalls.validateEpToken(token, url));
     }
 
     /**
@@ -111,13 +280,51 @@ public class AsyncApiImportController {
      * @param request
      * @param urlRegion
      * @param urlOverride
+     * @param nameContains - Return domains with names containing this text (case-insensitive)
+     * @param prefix - Return domains with names starting with this text (case-insensitive)
+     * @param cursor - nextCursor from the previous page
+     * @param limit - Maximum number of domains to return
      * @return
      */
     @PostMapping("/importer/appdomains")
-    public ResponseEntity<AsyncApiImportAppDomainResponse> getDomains(
+    public DeferredResult<ResponseEntity<AsyncApiImportAppDomainResponse>> getDomains(
         @RequestBody AsyncApiImportTokenRequest request,
         @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
-        @RequestParam(name = "urlOverride", required = false) String urlOverride
+        @RequestParam(name = "urlOverride", required = false) String urlOverride,
+        @RequestParam(name = "nameContains", required = false) String nameContains,
+        @RequestParam(name = "prefix", required = false) String prefix,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limit", required = false) Integer limit
+    )
+    {
+        return submit(lookupExecutor, null,
+                    () -> queryDomains(request, urlRegion, urlOverride, nameContains, prefix, cursor, limit),
+                    () -> {
+                        AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+                        response.getMsgs().add(CAPACITY_EXHAUSTED_MSG);
+                        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+                    });
+    }
+
+    /**
+     * Query application domains; runs on a lookup thread
+     * @param request
+     * @param urlRegion
+     * @param urlOverride
+     * @param nameContains
+     * @param prefix
+     * @param cursor
+     * @param limit
+     * @return
+     */
+    private ResponseEntity<AsyncApiImportAppDomainResponse> queryDomains(
+        final AsyncApiImportTokenRequest request,
+        final String urlRegion,
+        final String urlOverride,
+        final String nameContains,
+        final String prefix,
+        final String cursor,
+        final Integer limit
     )
     {
         log.debug("/importer/appdomains invoked");
@@ -125,6 +332,7 @@ public class AsyncApiImportController {
         String resolvedUrl = "";
         String decodedEpToken = "";
         String responseMessage = null;
+        AppDomainQuery query = null;
 
         boolean validRequest = true;
         try {
@@ -133,6 +341,7 @@ public class AsyncApiImportController {
 
             resolvedUrl = ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
             decodedEpToken = ValidationUtils.decodeBase64(request.getEpToken());
+            query = AppDomainQuery.of(nameContains, prefix, cursor, limit);
         } catch (Exception exc) {
             validRequest = false;
             responseMessage = exc.getLocalizedMessage();
@@ -148,23 +357,41 @@ public class AsyncApiImportController {
             }
             return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
         }
-        return SolaceCloudApiCalls.getAppDomainsFromSolaceCloudApi(decodedEpToken, resolvedUrl);
+        if (ValidationUtils.isAutoRegion(urlRegion, urlOverride)) {
+            resolvedUrl = RegionDiscovery.resolveUrlBlocking(decodedEpToken);
+            if (resolvedUrl == null) {
+                AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+                response.getMsgs().add(RegionDiscovery.REGION_NOT_FOUND_MSG);
+                return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+            }
+        }
+        final String token = decodedEpToken, url = resolvedUrl;
+        return query.apply(SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, token, url,
+                    () -> SolaceCloudApiCalls.getAppDomainsFromSolaceCloudApi(token, url)));
     }
 
     /**
-     * Import operation
+     * Import operation. The request is validated and prepared on the import request pool,
+     * then queued for an import worker; no request thread waits while the import runs.
+     * The response is sent when the import stops.
      * @param request
      * @param appDomainId
      * @param appDomainName
      * @param urlRegion
      * @param urlOverride
      * @param newVersionStrategy
-     * @param eventsOnly
-     * @param disableCascadeUpdate
+     * @param importApplication
+     * @param importEventApi
+     * @param cascadeUpdate
+     * @param importId - Optional client-supplied import ID; used to retry or resume an import
+     * @param incremental - Skip the import if the spec is unchanged since the last successful import
+     * @param timeoutMs - Optional deadline for the import in milliseconds from receipt of the request
+     * @param timeoutMsHeader - Deadline as request header; timeoutMs parameter takes precedence
+     * @param tenantId - Optional tenant for fair scheduling
      * @return
      */
     @PostMapping("/importer")
-    public ResponseEntity<AsyncApiImportResponse> importAsyncApi(
+    public DeferredResult<ResponseEntity<AsyncApiImportResponse>> importAsyncApi(
         @RequestBody AsyncApiImportRequest request,
         @RequestParam(name = "appDomainId", required = false) String appDomainId,
         @RequestParam(name = "appDomainName", required = false) String appDomainName,
@@ -173,43 +400,364 @@ public class AsyncApiImportController {
         @RequestParam(name = "newVersionStrategy", defaultValue = "MAJOR") String newVersionStrategy,
         @RequestParam(name = "importApplication", defaultValue = "true") boolean importApplication,
         @RequestParam(name = "importEventApi", defaultValue = "false") boolean importEventApi,
-        @RequestParam(name = "cascadeUpdate", defaultValue = "true") boolean cascadeUpdate
+        @RequestParam(name = "cascadeUpdate", defaultValue = "true") boolean cascadeUpdate,
+        @RequestParam(name = "importId", required = false) String importId,
+        @RequestParam(name = "incremental", defaultValue = "false") boolean incremental,
+        @RequestParam(name = "timeoutMs", required = false) Long timeoutMs,
+        @RequestHeader(name = IMPORT_TIMEOUT_HEADER, required = false) Long timeoutMsHeader,
+        @RequestHeader(name = TENANT_HEADER, required = false) String tenantId
     )
     {
+        return submitAsync(importRequestExecutor, NO_ASYNC_TIMEOUT,
+                    () -> startImport(jsonBody(request), appDomainId, appDomainName, urlRegion, urlOverride, newVersionStrategy,
+                                importApplication, importEventApi, cascadeUpdate, importId, incremental, timeoutMs, timeoutMsHeader, tenantId, null, true),
+                    () -> {
+                        AsyncApiImportResponse response = new AsyncApiImportResponse();
+                        response.getMsgs().add(CAPACITY_EXHAUSTED_MSG);
+                        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+                    });
+    }
+
+    /**
+     * Import operation with a binary request body (CBOR or Smile). The EP token and the
+     * AsyncApi spec are sent as raw bytes rather than Base64 encoded strings.
+     * Request parameters and processing are identical to the JSON import operation.
+     * @param request
+     * @param appDomainId
+     * @param appDomainName
+     * @param urlRegion
+     * @param urlOverride
+     * @param newVersionStrategy
+     * @param importApplication
+     * @param importEventApi
+     * @param cascadeUpdate
+     * @param importId - Optional client-supplied import ID; used to retry or resume an import
+     * @param incremental - Skip the import if the spec is unchanged since the last successful import
+     * @param timeoutMs - Optional deadline for the import in milliseconds from receipt of the request
+     * @param timeoutMsHeader - Deadline as request header; timeoutMs parameter takes precedence
+     * @param tenantId - Optional tenant for fair scheduling
+     * @return
+     */
+    @PostMapping(value = "/importer", consumes = { MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE })
+    public DeferredResult<ResponseEntity<AsyncApiImportResponse>> importAsyncApiBinary(
+        @RequestBody AsyncApiImportBinaryRequest request,
+        @RequestParam(name = "appDomainId", required = false) String appDomainId,
+        @RequestParam(name = "appDomainName", required = false) String appDomainName,
+        @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
+        @RequestParam(name = "urlOverride", required = false) String urlOverride,
+        @RequestParam(name = "newVersionStrategy", defaultValue = "MAJOR") String newVersionStrategy,
+        @RequestParam(name = "importApplication", defaultValue = "true") boolean importApplication,
+        @RequestParam(name = "importEventApi", defaultValue = "false") boolean importEventApi,
+        @RequestParam(name = "cascadeUpdate", defaultValue = "true") boolean cascadeUpdate,
+        @RequestParam(name = "importId", required = false) String importId,
+        @RequestParam(name = "incremental", defaultValue = "false") boolean incremental,
+        @RequestParam(name = "timeoutMs", required = false) Long timeoutMs,
+        @RequestHeader(name = IMPORT_TIMEOUT_HEADER, required = false) Long timeoutMsHeader,
+        @RequestHeader(name = TENANT_HEADER, required = false) String tenantId
+    )
+    {
+        return submitAsync(importRequestExecutor, NO_ASYNC_TIMEOUT,
+                    () -> startImport(binaryBody(request), appDomainId, appDomainName, urlRegion, urlOverride, newVersionStrategy,
+                                importApplication, importEventApi, cascadeUpdate, importId, incremental, timeoutMs, timeoutMsHeader, tenantId, null, true),
+                    () -> {
+                        AsyncApiImportResponse response = new AsyncApiImportResponse();
+                        response.getMsgs().add(CAPACITY_EXHAUSTED_MSG);
+                        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+                    });
+    }
+
+    /**
+     * Execute an import request and wait for it to complete. Used by directory-watch mode
+     * and JIT warm-up.
+     * @param request
+     * @param appDomainId
+     * @param appDomainName
+     * @param urlRegion
+     * @param urlOverride
+     * @param newVersionStrategy
+     * @param importApplication
+     * @param importEventApi
+     * @param cascadeUpdate
+     * @param importId - Optional client-supplied import ID; used to retry or resume an import
+     * @param incremental - Skip the import if the spec is unchanged since the last successful import
+     * @param timeoutMs - Optional deadline for the import in milliseconds from receipt of the request
+     * @param timeoutMsHeader - Deadline as request header; timeoutMs parameter takes precedence
+     * @param tenantId - Optional tenant for fair scheduling
+     * @param specSource - Source of the spec, e.g. a watched file; incremental fingerprints are kept per source
+     *                     instead of per spec title. Null for requests received over HTTP
+     * @param recorded - Record the import in the import journal and fingerprint store; false for
+     *                   synthetic imports, e.g. JIT warm-up
+     * @return
+     */
+    public ResponseEntity<AsyncApiImportResponse> executeImport(
+        final AsyncApiImportRequest request,
+        final String appDomainId,
+        final String appDomainName,
+        final String urlRegion,
+        final String urlOverride,
+        final String newVersionStrategy,
+        final boolean importApplication,
+        final boolean importEventApi,
+        final boolean cascadeUpdate,
+        final String importId,
+        final boolean incremental,
+        final Long timeoutMs,
+        final Long timeoutMsHeader,
+        final String tenantId,
+        final String specSource,
+        final boolean recorded
+    )
+    {
+        return startImport(jsonBody(request), appDomainId, appDomainName, urlRegion, urlOverride, newVersionStrategy,
+                    importApplication, importEventApi, cascadeUpdate, importId, incremental, timeoutMs, timeoutMsHeader, tenantId,
+                    specSource, recorded)
+                    .join();
+    }
+
+    /**
+     * Request body of an import in either wire format
+     */
+    private interface ImportRequestBody {
+
+        boolean isValid();
+
+        String getEpToken() throws Exception;
+
+        String getAsyncApiSpec() throws Exception;
+    }
+
+    private static ImportRequestBody jsonBody(final AsyncApiImportRequest request)
+    {
+        return new ImportRequestBody() {
+            @Override
+            public boolean isValid() {
+                return ValidationUtils.validRequestBody(request);
+            }
+            @Override
+            public String getEpToken() throws Exception {
+                return ValidationUtils.decodeBase64(request.getEpToken());
+            }
+            @Override
+            public String getAsyncApiSpec() throws Exception {
+                return ValidationUtils.decodeBase64(request.getAsyncApiSpec());
+            }
+        };
+    }
+
+    private static ImportRequestBody binaryBody(final AsyncApiImportBinaryRequest request)
+    {
+        return new ImportRequestBody() {
+            @Override
+            public boolean isValid() {
+                return ValidationUtils.validBinaryRequestBody(request);
+            }
+            @Override
+            public String getEpToken() {
+                return new String(request.getEpToken(), StandardCharsets.UTF_8);
+            }
+            @Override
+            public String getAsyncApiSpec() {
+                return new String(request.getAsyncApiSpec(), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * State of an import request, shared by the request phase on the calling thread and
+     * the completion of the import on the thread that completes it
+     */
+    private final class ImportRun {
+        final String importId;
+        final String threadNamePrefix;
+        final HttpHeaders responseHeaders = new HttpHeaders();
+        final AsyncApiImportResponse response = new AsyncApiImportResponse();
+        final Logger rootLogger = context.getLogger("ROOT");
+        final MemoryAppender memoryAppender;
+        ImportPhaseEvent phaseEvent;
+        boolean importIdReserved = false;
+        boolean journalStarted = false;
+        boolean importCancelled = false;
+        List<String> completedImportMsgs;
+
+        ImportRun(String importId, String threadNamePrefix)
+        {
+            this.importId = importId;
+            this.threadNamePrefix = threadNamePrefix;
+            responseHeaders.set(IMPORT_ID_HEADER, importId);
+            // Set up memory logging for this request; all threads working on it are named with the prefix
+            memoryAppender = LogUtils.getMemoryAppender(context, encoder, threadNamePrefix + "request", threadNamePrefix);
+            rootLogger.addAppender(memoryAppender);
+        }
+
+        /**
+         * Run on the current thread, named with the prefix of this request so that log capture includes it
+         * @param <T>
+         * @param suffix
+         * @param action
+         * @return
+         */
+        <T> T inThread(final String suffix, final Supplier<T> action)
+        {
+            final Thread thread = Thread.currentThread();
+            final String threadName = thread.getName();
+            thread.setName(threadNamePrefix + suffix);
+            try {
+                return action.get();
+            } finally {
+                thread.setName(threadName);
+            }
+        }
+
+        /**
+         * Respond to an import that failed or was stopped
+         * @param exc
+         * @return
+         */
+        ResponseEntity<AsyncApiImportResponse> respond(final Throwable exc)
+        {
+            final Throwable cause = (exc instanceof CompletionException && exc.getCause() != null) ? exc.getCause() : exc;
+            if (cause instanceof ImportCancelledException cancelledExc) {
+                log.error("ASYNCAPI SPEC IMPORT STOPPED -- {}", cancelledExc.getMessage());
+                importCancelled = true;
+                return respond(cancelledExc.isDeadlineExceeded() ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.CONFLICT);
+            }
+            log.error("ASYNCAPI SPEC IMPORT FAILED WITH AN ERROR");
+            log.error(cause.getLocalizedMessage());
+            return respond(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        /**
+         * Stop log capture, record the outcome in the journal, and release the import ID if it
+         * has not been handed to the execution service
+         * @param httpStatus
+         * @return
+         */
+        ResponseEntity<AsyncApiImportResponse> respond(final HttpStatus httpStatus)
+        {
+            if (phaseEvent != null) {
+                phaseEvent.end(httpStatus.name());
+            }
+            final ImportPhaseEvent responseEvent = ImportPhaseEvent.start(importId, ImportPhaseEvent.PHASE_RESPONSE);
+            rootLogger.detachAppender(memoryAppender);
+            // A stopped import's worker may still be logging; appends hold the appender lock
+            synchronized (memoryAppender) {
+                memoryAppender.stop();
+                response.getMsgs().addAll(memoryAppender.getMemoryLogList());
+                memoryAppender.clear();
+            }
+            if (completedImportMsgs != null) {
+                response.getMsgs().addAll(completedImportMsgs);
+            }
+            if (journalStarted) {
+                importJournal.finish(
+                    importId,
+                    httpStatus == HttpStatus.OK ? ImportJournalEntry.Status.COMPLETED :
+                        (importCancelled ? ImportJournalEntry.Status.CANCELLED : ImportJournalEntry.Status.FAILED),
+                    response.getMsgs());
+            }
+            if (importIdReserved) {
+                importExecutionService.release(importId);
+            }
+            responseEvent.end(httpStatus.name());
+            return new ResponseEntity<>(response, responseHeaders, httpStatus);
+        }
+    }
+
+    /**
+     * Validate and prepare an import on the calling thread, then queue it for execution.
+     * The calling thread does not wait for the import; the returned future is completed
+     * when the import stops.
+     */
+    private CompletableFuture<ResponseEntity<AsyncApiImportResponse>> startImport(
+        final ImportRequestBody request,
+        final String appDomainId,
+        final String appDomainName,
+        final String urlRegion,
+        final String urlOverride,
+        final String newVersionStrategy,
+        final boolean importApplication,
+        final boolean importEventApi,
+        final boolean cascadeUpdate,
+        final String importId,
+        final boolean incremental,
+        final Long timeoutMs,
+        final Long timeoutMsHeader,
+        final String tenantId,
+        final String specSource,
+        final boolean recorded
+    )
+    {
+        final long requestReceivedAt = System.currentTimeMillis();
         final int thisRequestId = importRequestCounter.incrementAndGet();
         log.info("AsyncApi Import Request ID {}: /importer invoked", thisRequestId);
 
-        // Set up memory logging for this request
-        MemoryAppender memoryAppender = LogUtils.getMemoryAppender(context, encoder, Thread.currentThread().getName(), EpImportOperator.getOperatorIdPrefix(thisRequestId));
-        Logger rootLogger = context.getLogger("ROOT");
-        rootLogger.addAppender(memoryAppender);
+        final String resolvedImportId = (importId == null || importId.isBlank()) ? UUID.randomUUID().toString() : importId;
+        final ImportRun importRun = new ImportRun(resolvedImportId, EpImportOperator.getOperatorIdPrefix(thisRequestId));
+
+        return importRun.inThread("request", () -> {
+            try {
+                return prepareImport(importRun, request, appDomainId, appDomainName, urlRegion, urlOverride, newVersionStrategy,
+                            importApplication, importEventApi, cascadeUpdate, importId, incremental, timeoutMs, timeoutMsHeader,
+                            tenantId, specSource, recorded, requestReceivedAt);
+            } catch (Exception exc) {
+                return CompletableFuture.completedFuture(importRun.respond(exc));
+            }
+        });
+    }
+
+    private CompletableFuture<ResponseEntity<AsyncApiImportResponse>> prepareImport(
+        final ImportRun importRun,
+        final ImportRequestBody request,
+        final String appDomainId,
+        final String appDomainName,
+        final String urlRegion,
+        final String urlOverride,
+        final String newVersionStrategy,
+        final boolean importApplication,
+        final boolean importEventApi,
+        final boolean cascadeUpdate,
+        final String importId,
+        final boolean incremental,
+        final Long timeoutMs,
+        final Long timeoutMsHeader,
+        final String tenantId,
+        final String specSource,
+        final boolean recorded,
+        final long requestReceivedAt
+    ) throws Exception
+    {
+        final String resolvedImportId = importRun.importId;
 
         log.info("ASYNCAPI SPEC IMPORT -- START");
 
         // Validate the input request - parameters and body
+        final ImportPhaseEvent validationEvent = ImportPhaseEvent.start(resolvedImportId, ImportPhaseEvent.PHASE_VALIDATION);
         boolean validRequest = true;
         try {
             validRequest = ValidationUtils.validDomainIdentifiers(appDomainId, appDomainName) && validRequest;
             validRequest = ValidationUtils.validNewVersionStrategy(newVersionStrategy) && validRequest;
             validRequest = ValidationUtils.validRegion(urlRegion, urlOverride) && validRequest;
-            validRequest = ValidationUtils.validRequestBody(request) && validRequest;
+            validRequest = ValidationUtils.validImportId(importId) && validRequest;
+            validRequest = ValidationUtils.validTenantId(tenantId) && validRequest;
+            validRequest = ValidationUtils.validTimeout(timeoutMs != null ? timeoutMs : timeoutMsHeader) && validRequest;
+            validRequest = request.isValid() && validRequest;
         } catch (Exception exc) {
             validRequest = false;
             log.error("Error caught validating request: {}", exc.getMessage());
         }
+        validationEvent.end(validRequest ? "ok" : "invalid");
 
         if (!validRequest) {
             log.error("ASYNCAPI SPEC IMPORT -- FAILED VALIDATION");
-            AsyncApiImportResponse response = new AsyncApiImportResponse();
-            rootLogger.detachAppender(memoryAppender);
-            memoryAppender.stop();
-            response.getMsgs().addAll(memoryAppender.getMemoryLogList());
-            memoryAppender.clear();
-            memoryAppender = null;
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            return CompletableFuture.completedFuture(importRun.respond(HttpStatus.BAD_REQUEST));
         }
 
         log.debug("AsyncApi import request passed validation");
+        log.info("Import ID: {}", resolvedImportId);
+        final long resolvedTimeoutMs = timeoutMs != null ? timeoutMs : (timeoutMsHeader != null ? timeoutMsHeader : defaultTimeoutMs);
+        if (resolvedTimeoutMs > 0) {
+            log.info("Import deadline: {} ms", resolvedTimeoutMs);
+        }
         if (! cascadeUpdate) {
             log.info("Cascade Update feature is disabled for this operation");
         }
@@ -222,56 +770,176 @@ public class AsyncApiImportController {
         log.info("SemVer of new object versions will increment {} version of the previous object", newVersionStrategy);
         log.debug("Thread ID: {} -- Name: {} -- Group: {}", Thread.currentThread().getId(), Thread.currentThread().getName(), Thread.currentThread().getThreadGroup().getName() );
 
-        AsyncApiImportResponse response = new AsyncApiImportResponse();
-        HttpStatus httpStatus = null;
+        // Only the request holding the reservation may read or write the journal of the import ID
+        importRun.importIdReserved = importExecutionService.reserve(resolvedImportId);
+        if (!importRun.importIdReserved) {
+            log.error("Import ID {} is already running", resolvedImportId);
+            return CompletableFuture.completedFuture(importRun.respond(HttpStatus.CONFLICT));
+        }
 
-        try {
-            final boolean useAppDomainId = ( appDomainId != null && !appDomainId.isBlank() );
-            final String epToken = ValidationUtils.decodeBase64(request.getEpToken());
-            final String asyncApiSpec = ValidationUtils.decodeBase64(request.getAsyncApiSpec());
-            final String resolvedUrl = ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
-
-            log.info("Target Solace Cloud API URL: {}", resolvedUrl);
-
-            if (useAppDomainId)
-            {
-                AsyncApiImporter.execImportOperation(
-                    appDomainId, 
-                    null, 
-                    epToken, 
-                    asyncApiSpec, 
-                    resolvedUrl, 
-                    newVersionStrategy,
-                    cascadeUpdate,
-                    importApplication,
-                    importEventApi
-                );
+        final boolean useAppDomainId = ( appDomainId != null && !appDomainId.isBlank() );
+        importRun.phaseEvent = ImportPhaseEvent.start(resolvedImportId, ImportPhaseEvent.PHASE_DECODE);
+        final String epToken = request.getEpToken();
+        final String asyncApiSpec = request.getAsyncApiSpec();
+        importRun.phaseEvent = nextPhase(importRun.phaseEvent, resolvedImportId, ImportPhaseEvent.PHASE_REGION);
+        final String resolvedUrl = ValidationUtils.isAutoRegion(urlRegion, urlOverride) ?
+                    RegionDiscovery.resolveUrlBlocking(epToken) : ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
+        if (resolvedUrl == null) {
+            log.error("Solace Cloud region could not be determined for the EP token");
+            return CompletableFuture.completedFuture(importRun.respond(HttpStatus.UNAUTHORIZED));
+        }
+        final String specHash = HashUtils.sha256Hex(asyncApiSpec);
+        final String tokenHash = HashUtils.sha256Hex(epToken);
+        final String appDomain = useAppDomainId ? appDomainId : appDomainName;
+
+        log.info("Target Solace Cloud API URL: {}", resolvedUrl);
+
+        // Check the journal for a previous attempt of this import; only replayed for the same EP token
+        importRun.phaseEvent = nextPhase(importRun.phaseEvent, resolvedImportId, ImportPhaseEvent.PHASE_JOURNAL);
+        final Optional<ImportJournalEntry> previousImport = !recorded ? Optional.empty() :
+                    importJournal.find(resolvedImportId).filter(entry -> entry.isSameImport(tokenHash, specHash, appDomain, resolvedUrl));
+        if (previousImport.isPresent() && previousImport.get().getStatus() == ImportJournalEntry.Status.COMPLETED) {
+            log.info("Import ID {} was completed previously for this spec and application domain; Import skipped", resolvedImportId);
+            log.info("Messages from the completed import follow");
+            importRun.completedImportMsgs = previousImport.get().getMsgs();
+            return CompletableFuture.completedFuture(importRun.respond(HttpStatus.OK));
+        }
+        if (previousImport.isPresent()) {
+            log.info("Retrying Import ID {}; the previous attempt ended with status {}",
+                        resolvedImportId, previousImport.get().getStatus());
+        }
+
+        // Incremental import: skip the import if no object changed since the last successful import
+        importRun.phaseEvent = nextPhase(importRun.phaseEvent, resolvedImportId, ImportPhaseEvent.PHASE_INCREMENTAL);
+        final String optionsFingerprint = SpecFingerprints.optionsFingerprint(newVersionStrategy, importApplication, importEventApi, cascadeUpdate);
+        Map<String, String> specFingerprints = null;
+        String targetKey = null;
+        if (incremental && recorded) {
+            try {
+                final JsonNode specRoot = SpecFingerprints.parse(asyncApiSpec);
+                specFingerprints = SpecFingerprints.compute(specRoot);
+                targetKey = ImportFingerprintStore.targetKey(epToken, resolvedUrl, appDomain,
+                                specSource != null ? "source:" + specSource : SpecFingerprints.specIdentity(specRoot));
+            } catch (JsonProcessingException jsonExc) {
+                log.warn("Incremental import not possible; AsyncApi spec could not be parsed: {}", jsonExc.getOriginalMessage());
+            }
+        }
+        if (specFingerprints != null) {
+            final Optional<ImportFingerprint> lastImport = importFingerprintStore.find(targetKey)
+                            .filter(fingerprint -> optionsFingerprint.equals(fingerprint.getOptionsFingerprint()));
+            if (lastImport.isPresent()) {
+                final int unchanged = lastImport.get().countUnchanged(specFingerprints);
+                final int removed = lastImport.get().countRemoved(specFingerprints);
+                log.info("Incremental import -- Objects changed or new: {} -- unchanged: {} -- removed: {}",
+                            specFingerprints.size() - unchanged, unchanged, removed);
+                if (lastImport.get().isUnchanged(specFingerprints)) {
+                    log.info("No changes since the last successful import; {} objects skipped", unchanged);
+                    log.info("ASYNCAPI SPEC IMPORT -- COMPLETE");
+                    return CompletableFuture.completedFuture(importRun.respond(HttpStatus.OK));
+                }
+                log.info("Unchanged objects will be matched to existing Event Portal objects; no new versions are created for them");
             } else {
-                AsyncApiImporter.execImportOperation(
-                    null,
-                    appDomainName, 
-                    epToken, 
-                    asyncApiSpec, 
-                    resolvedUrl,
-                    newVersionStrategy,
-                    cascadeUpdate,
-                    importApplication,
-                    importEventApi
-                );
+                log.info("Incremental import -- No previous import of this target with the same options; All {} objects will be imported",
+                            specFingerprints.size());
+            }
+        }
+
+        if (recorded) {
+            importJournal.start(resolvedImportId, tokenHash, specHash, appDomain, resolvedUrl);
+            importRun.journalStarted = true;
+        }
+
+        // Warm-up: resolve application domain name to ID using the shared domain index
+        importRun.phaseEvent = nextPhase(importRun.phaseEvent, resolvedImportId, ImportPhaseEvent.PHASE_DOMAIN);
+        final String targetAppDomainId = useAppDomainId ? appDomainId :
+                    appDomainIndexCache.resolveAppDomainId(epToken, resolvedUrl, appDomainName);
+        if (!useAppDomainId && targetAppDomainId != null) {
+            log.info("Application Domain [{}] resolved to ID [{}]", appDomainName, targetAppDomainId);
+        }
+
+        final long remainingTimeMs = resolvedTimeoutMs > 0 ? resolvedTimeoutMs - (System.currentTimeMillis() - requestReceivedAt) : 0;
+        if (resolvedTimeoutMs > 0 && remainingTimeMs <= 0) {
+            throw new ImportCancelledException("Deadline of " + resolvedTimeoutMs + " ms exceeded", true);
+        }
+        final String tenant = (tenantId == null || tenantId.isBlank()) ?
+                    "token-" + tokenHash.substring(0, 16) : tenantId;
+        log.info("Import tenant: {}", tenant);
+        importRun.phaseEvent = nextPhase(importRun.phaseEvent, resolvedImportId, ImportPhaseEvent.PHASE_IMPORT);
+
+        final Map<String, String> importedFingerprints = specFingerprints;
+        final String importedTargetKey = targetKey;
+        // The execution service releases the import ID when the worker exits, which may be
+        // after the response to a stopped import
+        importRun.importIdReserved = false;
+        return importExecutionService.execute(
+            resolvedImportId,
+            tenant,
+            FairImportScheduler.costOf(asyncApiSpec.length()),
+            importRun.threadNamePrefix,
+            remainingTimeMs,
+            () -> AsyncApiImporter.execImportOperation(
+                targetAppDomainId,
+                targetAppDomainId == null ? appDomainName : null,
+                epToken,
+                asyncApiSpec,
+                resolvedUrl,
+                newVersionStrategy,
+                cascadeUpdate,
+                importApplication,
+                importEventApi
+            )
+        ).handle((ignored, importExc) -> importRun.inThread("response", () -> {
+            if (importExc != null) {
+                return importRun.respond(importExc);
             }
             log.info("ASYNCAPI SPEC IMPORT -- COMPLETE");
-            httpStatus = HttpStatus.OK;
-        } catch (Exception exc) {
-            log.error("ASYNCAPI SPEC IMPORT FAILED WITH AN ERROR");
-            log.error(exc.getLocalizedMessage());
-            httpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
-        } finally {
-            rootLogger.detachAppender(memoryAppender);
-            memoryAppender.stop();
-            response.getMsgs().addAll(memoryAppender.getMemoryLogList());
-            memoryAppender.clear();
-            memoryAppender = null;
+            if (importedFingerprints != null) {
+                final ImportFingerprint importFingerprint = new ImportFingerprint();
+                importFingerprint.setOptionsFingerprint(optionsFingerprint);
+                importFingerprint.getObjects().putAll(importedFingerprints);
+                importFingerprint.setImportTime(System.currentTimeMillis());
+                importFingerprintStore.save(importedTargetKey, importFingerprint);
+            }
+            return importRun.respond(HttpStatus.OK);
+        }));
+    }
+
+    /**
+     * End the current import phase event and begin the next phase
+     * @param current
+     * @param importId
+     * @param phase
+     * @return
+     */
+    private static ImportPhaseEvent nextPhase(ImportPhaseEvent current, String importId, String phase)
+    {
+        current.end("ok");
+        return ImportPhaseEvent.start(importId, phase);
+    }
+
+    /**
+     * Cancel a running import. The import stops, the response of the import request
+     * reports the work done so far, and the import journal records it as CANCELLED.
+     * @param importId
+     * @return
+     */
+    @PostMapping("/importer/cancel")
+    public ResponseEntity<AsyncApiImportResponse> cancelImport(
+        @RequestParam(name = "importId") String importId
+    )
+    {
+        log.debug("/importer/cancel invoked");
+
+        AsyncApiImportResponse response = new AsyncApiImportResponse();
+        if (!ValidationUtils.validImportId(importId)) {
+            response.getMsgs().add("Invalid importId");
+            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        }
+        if (importExecutionService.cancel(importId)) {
+            response.getMsgs().add("Import ID " + importId + " cancelled");
+            return new ResponseEntity<>(response, HttpStatus.OK);
         }
-        return new ResponseEntity<>(response, (httpStatus == null ? HttpStatus.INTERNAL_SERVER_ERROR : httpStatus));
+        response.getMsgs().add("Import ID " + importId + " is not running");
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.solace.ep.asyncapi.rest.apis.RegionDiscovery;
+import com.solace.ep.asyncapi.rest.apis.SingleFlight;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudApiCalls;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportTokenRequest;
+import com.solace.ep.asyncapi.rest.utils.AppDomainQuery;
+import com.solace.ep.asyncapi.rest.utils.ValidationUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variants of the lightweight operations. Request parameters and responses
+ * are identical to the corresponding operations in {@link AsyncApiImportController}.
+ * The servlet request thread is released while Solace Cloud API calls are in progress.
+ */
+@Slf4j
+@RestController
+public class AsyncApiImportReactiveController {
+
+    /**
+     * Non-blocking web method to validate EP bearer token
+     * @param request
+     * @param urlRegion
+     * @param urlOverride
+     * @return
+     */
+    @PostMapping("/importer/reactive/validate-token")
+    public Mono<ResponseEntity<AsyncApiImportResponse>> validateToken(
+        @RequestBody AsyncApiImportTokenRequest request,
+        @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
+        @RequestParam(name = "urlOverride", required = false) String urlOverride
+    )
+    {
+        log.debug("/importer/reactive/validate-token invoked");
+
+        String responseMessage = null;
+        String epToken = null, resolvedCloudApiUrl = null;
+        try {
+            if (ValidationUtils.isBase64(request.getEpToken()) && ValidationUtils.validRegion(urlRegion, urlOverride)) {
+                epToken = ValidationUtils.decodeBase64(request.getEpToken());
+                resolvedCloudApiUrl = ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
+            } else {
+                responseMessage = "Token not valid or Solace Cloud API not specified correctly";
+            }
+        } catch (Exception exc) {
+            responseMessage = exc.getLocalizedMessage() == null ? "Unidentified Error" : exc.getLocalizedMessage();
+        }
+
+        if (responseMessage != null) {
+            AsyncApiImportResponse response = new AsyncApiImportResponse();
+            response.getMsgs().add(responseMessage);
+            return Mono.just(new ResponseEntity<>(response, HttpStatus.BAD_REQUEST));
+        }
+        final String token = epToken, url = resolvedCloudApiUrl;
+        if (ValidationUtils.isAutoRegion(urlRegion, urlOverride)) {
+            return SingleFlight.executeMono(SingleFlight.OP_VALIDATE_TOKEN, token, ValidationUtils.REGION_AUTO,
+                        () -> RegionDiscovery.validateEpToken(token));
+        }
+        return SingleFlight.executeMono(SingleFlight.OP_VALIDATE_TOKEN, token, url,
+                    () -> SolaceCloudReactiveApiCalls.validateEpToken(token, url));
+    }
+
+    /**
+     * Non-blocking web method used to return list of application domains
+     * @param request
+     * @param urlRegion
+     * @param urlOverride
+     * @param nameContains
+     * @param prefix
+     * @param cursor
+     * @param limit
+     * @return
+     */
+    @PostMapping("/importer/reactive/appdomains")
+    public Mono<ResponseEntity<AsyncApiImportAppDomainResponse>> getDomains(
+        @RequestBody AsyncApiImportTokenRequest request,
+        @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
+        @RequestParam(name = "urlOverride", required = false) String urlOverride,
+        @RequestParam(name = "nameContains", required = false) String nameContains,
+        @RequestParam(name = "prefix", required = false) String prefix,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "limit", required = false) Integer limit
+    )
+    {
+        log.debug("/importer/reactive/appdomains invoked");
+
+        String resolvedUrl = "";
+        String decodedEpToken = "";
+        String responseMessage = null;
+        AppDomainQuery query = null;
+        boolean validRequest = true;
+        try {
+            validRequest = ValidationUtils.isBase64(request.getEpToken()) && validRequest;
+            validRequest = ValidationUtils.validRegion(urlRegion, urlOverride) && validRequest;
+
+            resolvedUrl = ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
+            decodedEpToken = ValidationUtils.decodeBase64(request.getEpToken());
+            query = AppDomainQuery.of(nameContains, prefix, cursor, limit);
+        } catch (Exception exc) {
+            validRequest = false;
+            responseMessage = exc.getLocalizedMessage();
+            log.warn("AsyncApiImportReactiveController.getDomains: {}", responseMessage);
+        }
+
+        if (!validRequest) {
+            AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+            response.getApplicationDomains();
+            response.getMsgs().add("Not a Base64 encoded token or could not resolve the correct Solace Cloud API URL");
+            if (responseMessage != null) {
+                response.getMsgs().add(responseMessage);
+            }
+            return Mono.just(new ResponseEntity<>(response, HttpStatus.BAD_REQUEST));
+        }
+        final AppDomainQuery appDomainQuery = query;
+        if (ValidationUtils.isAutoRegion(urlRegion, urlOverride)) {
+            final String epToken = decodedEpToken;
+            return RegionDiscovery.resolveUrl(epToken)
+                .flatMap(url -> SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, epToken, url,
+                            () -> SolaceCloudReactiveApiCalls.getAppDomainsFromSolaceCloudApi(epToken, url)))
+                .map(appDomainQuery::apply)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+                    response.getMsgs().add(RegionDiscovery.REGION_NOT_FOUND_MSG);
+                    return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+                }));
+        }
+        final String token = decodedEpToken, url = resolvedUrl;
+        return SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, token, url,
+                    () -> SolaceCloudReactiveApiCalls.getAppDomainsFromSolaceCloudApi(token, url))
+            .map(appDomainQuery::apply);
+    }
+
+    /**
+     * Stream application domains as newline-delimited JSON. Without a limit, domains are
+     * written as pages are received from the Solace Cloud API, in the order received, as
+     * for a filter-only query of '/importer/appdomains'. With a limit, the matching domains
+     * are ordered by name, then ID, and the first 'limit' are written, the same domains as
+     * the first page of '/importer/appdomains'; they are written once all pages are received.
+     * Cursor paging is not supported. Errors before the first domain is written are
+     * returned as an HTTP error status; an error after that ends the stream.
+     * @param request
+     * @param urlRegion
+     * @param urlOverride
+     * @param nameContains
+     * @param prefix
+     * @param limit
+     * @return
+     */
+    @PostMapping(value = "/importer/appdomains/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AppDomainItem> streamDomains(
+        @RequestBody AsyncApiImportTokenRequest request,
+        @RequestParam(name = "urlRegion", defaultValue = "US") String urlRegion,
+        @RequestParam(name = "urlOverride", required = false) String urlOverride,
+        @RequestParam(name = "nameContains", required = false) String nameContains,
+        @RequestParam(name = "prefix", required = false) String prefix,
+        @RequestParam(name = "limit", required = false) Integer limit
+    )
+    {
+        log.debug("/importer/appdomains/stream invoked");
+
+        final String epToken;
+        final String resolvedUrl;
+        final AppDomainQuery query;
+        try {
+            if (!ValidationUtils.isBase64(request.getEpToken()) || !ValidationUtils.validRegion(urlRegion, urlOverride)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Not a Base64 encoded token or could not resolve the correct Solace Cloud API URL");
+            }
+            epToken = ValidationUtils.decodeBase64(request.getEpToken());
+            resolvedUrl = ValidationUtils.getUrlByRegion(urlRegion, urlOverride);
+            query = AppDomainQuery.of(nameContains, prefix, null, limit);
+        } catch (ResponseStatusException statusExc) {
+            throw statusExc;
+        } catch (Exception exc) {
+            log.warn("AsyncApiImportReactiveController.streamDomains: {}", exc.getLocalizedMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exc.getLocalizedMessage());
+        }
+
+        final Mono<String> url = ValidationUtils.isAutoRegion(urlRegion, urlOverride) ?
+                    RegionDiscovery.resolveUrl(epToken)
+                        .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, RegionDiscovery.REGION_NOT_FOUND_MSG))) :
+                    Mono.just(resolvedUrl);
+        final Flux<AppDomainItem> appDomains = url
+            .flatMapMany(cloudApiUrl -> SolaceCloudReactiveApiCalls.getAppDomainItems(epToken, cloudApiUrl))
+            .filter(query::matches)
+            .onErrorMap(WebClientResponseException.class, webClientException -> {
+                log.error("AsyncApiImportReactiveController.streamDomains failed; Code: {}", webClientException.getStatusCode().value());
+                return new ResponseStatusException(webClientException.getStatusCode(),
+                            SolaceCloudApiCalls.redactBearerTokenFromMessage(webClientException.getMessage()));
+            });
+        return query.getLimit() > 0 ? appDomains.sort(AppDomainQuery.PAGE_ORDER).take(query.getLimit()) : appDomains;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.solace.ep.asyncapi.rest.health.ImportLoadMonitor;
+import com.solace.ep.asyncapi.rest.models.LoadStatusMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Readiness and liveness checks for load balancers and container orchestrators
+ */
+@Slf4j
+@RestController
+public class HealthController {
+
+    private final ImportLoadMonitor importLoadMonitor;
+
+    public HealthController(ImportLoadMonitor importLoadMonitor)
+    {
+        this.importLoadMonitor = importLoadMonitor;
+    }
+
+    /**
+     * Readiness check; returns 503 when the instance should not receive new requests
+     * @return
+     */
+    @GetMapping("/importer/ready")
+    public ResponseEntity<LoadStatusMessage> ready()
+    {
+        final LoadStatusMessage status = importLoadMonitor.getLoadStatus();
+        if (!status.isReady()) {
+            log.debug("/importer/ready: not ready -- {}", status.getReasons());
+        }
+        return new ResponseEntity<>(status, status.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Liveness check; returns 200 while the service is able to respond
+     * @return
+     */
+    @GetMapping("/importer/live")
+    public ResponseEntity<LoadStatusMessage> live()
+    {
+        return new ResponseEntity<>(importLoadMonitor.getLoadStatus(), HttpStatus.OK);
+    }
+}
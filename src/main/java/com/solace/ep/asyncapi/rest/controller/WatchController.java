@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.solace.ep.asyncapi.rest.models.WatchStatusMessage;
+import com.solace.ep.asyncapi.rest.watch.SpecDirectoryWatcher;
+
+/**
+ * Status of directory-watch mode
+ */
+@RestController
+public class WatchController {
+
+    private final SpecDirectoryWatcher specDirectoryWatcher;
+
+    public WatchController(SpecDirectoryWatcher specDirectoryWatcher)
+    {
+        this.specDirectoryWatcher = specDirectoryWatcher;
+    }
+
+    /**
+     * Returns watched directories and the import status of each watched spec file
+     * @return
+     */
+    @GetMapping("/importer/watch/status")
+    public ResponseEntity<WatchStatusMessage> status()
+    {
+        return new ResponseEntity<>(specDirectoryWatcher.getStatus(), HttpStatus.OK);
+    }
+}
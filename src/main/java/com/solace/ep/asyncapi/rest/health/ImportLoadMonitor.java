@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.health;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.solace.ep.asyncapi.rest.StartupTimeReporter;
+import com.solace.ep.asyncapi.rest.models.LoadStatusMessage;
+import com.solace.ep.asyncapi.rest.models.ThreadPoolStatus;
+import com.solace.ep.asyncapi.rest.service.FairImportScheduler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the load of this service instance: active imports, queued requests, use of
+ * the Tomcat request thread pool and the registered bulkhead pools, and heap headroom. The instance reports 'not ready'
+ * when a configured threshold is exceeded or when the service is shutting down, so that
+ * load balancers route new requests to less-loaded replicas.
+ */
+@Slf4j
+@Component
+public class ImportLoadMonitor {
+
+    private final AtomicInteger activeImports = new AtomicInteger(0);
+
+    private volatile boolean shuttingDown = false;
+
+    private volatile boolean warmupInProgress = false;
+
+    private volatile Executor tomcatExecutor;
+
+    private final Map<String, Supplier<java.util.concurrent.ThreadPoolExecutor>> pools = new ConcurrentSkipListMap<>();
+
+    private final FairImportScheduler importScheduler;
+
+    @Value("${importer.readiness.max-queued-imports:8}")
+    private int maxQueuedImports;
+
+    @Value("${importer.readiness.max-request-pool-usage-percent:90}")
+    private int maxRequestPoolUsagePercent;
+
+    @Value("${importer.readiness.min-heap-headroom-percent:15}")
+    private int minHeapHeadroomPercent;
+
+    public ImportLoadMonitor(FairImportScheduler importScheduler)
+    {
+        this.importScheduler = importScheduler;
+    }
+
+    /**
+     * Call when an import operation starts
+     */
+    public void importStarted()
+    {
+        activeImports.incrementAndGet();
+    }
+
+    /**
+     * Call when an import operation ends
+     */
+    public void importFinished()
+    {
+        activeImports.decrementAndGet();
+    }
+
+    /**
+     * Register a thread pool to report in the load status
+     * @param name
+     * @param pool - Supplies the pool when the load status is requested
+     */
+    public void registerPool(final String name, final Supplier<java.util.concurrent.ThreadPoolExecutor> pool)
+    {
+        pools.put(name, pool);
+    }
+
+    public int getActiveImports()
+    {
+        return activeImports.get();
+    }
+
+    public boolean isShuttingDown()
+    {
+        return shuttingDown;
+    }
+
+    /**
+     * Set while the JIT warm-up is running; the instance reports 'not ready' until cleared
+     * @param warmupInProgress
+     */
+    public void setWarmupInProgress(final boolean warmupInProgress)
+    {
+        this.warmupInProgress = warmupInProgress;
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event)
+    {
+        if (event.getWebServer() instanceof TomcatWebServer tomcatWebServer) {
+            tomcatExecutor = tomcatWebServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        }
+    }
+
+    @EventListener
+    public void onContextClosed(ContextClosedEvent event)
+    {
+        shuttingDown = true;
+        log.info("Service shutting down; Reporting not ready; Active imports: {}", activeImports.get());
+    }
+
+    /**
+     * Get the current load status of this instance
+     * @return
+     */
+    public LoadStatusMessage getLoadStatus()
+    {
+        final LoadStatusMessage status = new LoadStatusMessage();
+
+        status.setActiveImports(activeImports.get());
+        status.setMaxActiveImports(importScheduler.getMaxConcurrentImports());
+        status.setMaxQueuedImports(maxQueuedImports);
+        status.setQueuedImports(importScheduler.getQueuedImports());
+        if (tomcatExecutor instanceof ThreadPoolExecutor pool) {
+            status.setRequestPoolActiveThreads(pool.getActiveCount());
+            status.setRequestPoolMaxThreads(pool.getMaximumPoolSize());
+            status.setQueuedRequests(pool.getQueue().size());
+            status.getPools().add(poolStatus("requests", pool.getActiveCount(), pool.getPoolSize(), pool.getMaximumPoolSize(),
+                        pool.getQueue().size(), pool.getQueue().remainingCapacity(), pool.getCompletedTaskCount()));
+        }
+        pools.forEach((name, poolSupplier) -> {
+            try {
+                final java.util.concurrent.ThreadPoolExecutor pool = poolSupplier.get();
+                status.getPools().add(poolStatus(name, pool.getActiveCount(), pool.getPoolSize(), pool.getMaximumPoolSize(),
+                            pool.getQueue().size(), pool.getQueue().remainingCapacity(), pool.getCompletedTaskCount()));
+            } catch (IllegalStateException notInitialized) {
+                // Pool not started yet
+            }
+        });
+
+        final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        final long heapMax = heap.getMax() > 0 ? heap.getMax() : Runtime.getRuntime().maxMemory();
+        status.setHeapUsedBytes(heap.getUsed());
+        status.setHeapMaxBytes(heapMax);
+        status.setHeapHeadroomPercent((int) ((heapMax - heap.getUsed()) * 100 / heapMax));
+        status.setStartupMillis(StartupTimeReporter.getStartupMillis());
+
+        if (shuttingDown) {
+            status.getReasons().add("Service is shutting down");
+        }
+        if (warmupInProgress) {
+            status.getReasons().add("JIT warm-up in progress");
+        }
+        // Active imports are capped by the fair scheduler; saturation shows as queued imports
+        if (status.getQueuedImports() >= maxQueuedImports) {
+            status.getReasons().add("Queued imports at or above limit: " + maxQueuedImports);
+        }
+        if (status.getRequestPoolMaxThreads() > 0 &&
+                status.getRequestPoolActiveThreads() * 100 >= status.getRequestPoolMaxThreads() * maxRequestPoolUsagePercent) {
+            status.getReasons().add("Request thread pool usage at or above " + maxRequestPoolUsagePercent + "%");
+        }
+        status.getPools().stream()
+            .filter(poolStatus -> poolStatus.getQueuedTasks() > 0 && poolStatus.getRemainingQueueCapacity() == 0)
+            .forEach(poolStatus -> status.getReasons().add("Thread pool '" + poolStatus.getName() + "' queue is full"));
+        if (status.getHeapHeadroomPercent() < minHeapHeadroomPercent) {
+            status.getReasons().add("Heap headroom below " + minHeapHeadroomPercent + "%");
+        }
+        status.setReady(status.getReasons().isEmpty());
+        return status;
+    }
+
+    private static ThreadPoolStatus poolStatus(
+        final String name,
+        final int activeThreads,
+        final int poolSize,
+        final int maxThreads,
+        final int queuedTasks,
+        final int remainingQueueCapacity,
+        final long completedTasks
+    )
+    {
+        final ThreadPoolStatus poolStatus = new ThreadPoolStatus();
+        poolStatus.setName(name);
+        poolStatus.setActiveThreads(activeThreads);
+        poolStatus.setPoolSize(poolSize);
+        poolStatus.setMaxThreads(maxThreads);
+        poolStatus.setQueuedTasks(queuedTasks);
+        poolStatus.setRemainingQueueCapacity(remainingQueueCapacity);
+        poolStatus.setCompletedTasks(completedTasks);
+        return poolStatus;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.incremental;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+/**
+ * Fingerprints of the objects in the last spec successfully imported into a target
+ * application domain
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)     // Fingerprints saved by earlier versions include specHash
+public class ImportFingerprint {
+
+    private String optionsFingerprint;
+
+    private Map<String, String> objects;    // Object key -> fingerprint
+
+    private long importTime;                // Epoch millis
+
+    public Map<String, String> getObjects() {
+        if (this.objects == null) {
+            this.objects = new TreeMap<>();
+        }
+        return this.objects;
+    }
+
+    /**
+     * Count objects in the current spec with the same fingerprint as in this import
+     * @param current
+     * @return
+     */
+    public int countUnchanged(final Map<String, String> current)
+    {
+        int unchanged = 0;
+        for (Map.Entry<String, String> object : current.entrySet()) {
+            if (object.getValue().equals(getObjects().get(object.getKey()))) {
+                unchanged++;
+            }
+        }
+        return unchanged;
+    }
+
+    /**
+     * Test if the current spec is unchanged since this import: every object has the same
+     * fingerprint and none was removed. The fingerprints cover the whole spec (see
+     * {@link SpecFingerprints}), so formatting and key order changes are not changes.
+     * @param current - Object fingerprints of the current spec
+     * @return
+     */
+    public boolean isUnchanged(final Map<String, String> current)
+    {
+        return countUnchanged(current) == current.size() && countRemoved(current) == 0;
+    }
+
+    /**
+     * Count objects in this import that are no longer in the current spec
+     * @param current
+     * @return
+     */
+    public int countRemoved(final Map<String, String> current)
+    {
+        int removed = 0;
+        for (String key : getObjects().keySet()) {
+            if (!current.containsKey(key)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.incremental;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * File-backed store of the fingerprints of the last successful import per target.
+ * A target is the combination of EP token, Solace Cloud API URL, application domain, and
+ * spec identity (spec title or source file), so different specs imported into the same
+ * domain are tracked separately. The token is only stored as part of a hash.
+ * Fingerprints older than the retention period are removed periodically.
+ */
+@Slf4j
+@Component
+public class ImportFingerprintStore {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${importer.incremental.directory:${java.io.tmpdir}/asyncapi-importer-fingerprints}")
+    private String directory;
+
+    @Value("${importer.incremental.retention-hours:168}")
+    private long retentionHours;
+
+    private Path storeDir;
+
+    @PostConstruct
+    void init()
+    {
+        storeDir = Paths.get(directory);
+        try {
+            Files.createDirectories(storeDir);
+        } catch (IOException ioExc) {
+            log.warn("Could not create import fingerprint directory {}: {}", directory, ioExc.getMessage());
+        }
+    }
+
+    /**
+     * Key identifying an import target
+     * @param epToken
+     * @param resolvedUrl
+     * @param appDomain - Application domain ID or name
+     * @param specIdentity - Spec title or source file of the spec
+     * @return
+     */
+    public static String targetKey(
+        final String epToken,
+        final String resolvedUrl,
+        final String appDomain,
+        final String specIdentity
+    )
+    {
+        return HashUtils.sha256Hex(HashUtils.sha256Hex(epToken) + "|" + resolvedUrl + "|" + appDomain + "|" + specIdentity);
+    }
+
+    /**
+     * Find fingerprints of the last successful import for a target
+     * @param targetKey
+     * @return
+     */
+    public Optional<ImportFingerprint> find(final String targetKey)
+    {
+        final Path file = storeDir.resolve(targetKey + ".json");
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), ImportFingerprint.class));
+        } catch (IOException ioExc) {
+            log.warn("Could not read import fingerprints: {}", ioExc.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Save fingerprints of a successful import for a target
+     * @param targetKey
+     * @param importFingerprint
+     */
+    public void save(
+        final String targetKey,
+        final ImportFingerprint importFingerprint
+    )
+    {
+        try {
+            final Path tmp = Files.createTempFile(storeDir, targetKey, ".tmp");
+            objectMapper.writeValue(tmp.toFile(), importFingerprint);
+            Files.move(tmp, storeDir.resolve(targetKey + ".json"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioExc) {
+            log.warn("Could not save import fingerprints: {}", ioExc.getMessage());
+        }
+    }
+
+    /**
+     * Remove fingerprints older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${importer.incremental.cleanup-interval-ms:3600000}", initialDelayString = "${importer.incremental.cleanup-interval-ms:3600000}")
+    public void expire()
+    {
+        if (storeDir == null || !Files.isDirectory(storeDir)) {
+            return;
+        }
+        final long cutoff = System.currentTimeMillis() - retentionHours * 3_600_000L;
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(storeDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() < cutoff && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException ioExc) {
+            log.warn("Error expiring import fingerprint files: {}", ioExc.getMessage());
+        }
+        if (removed > 0) {
+            log.info("Removed {} expired import fingerprint files", removed);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.incremental;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+
+/**
+ * Static functions to compute fingerprints of the objects in an AsyncApi 2.X spec.
+ * Each channel, message, schema, and parameter is fingerprinted individually as the
+ * SHA-256 hash of its canonical JSON form (map keys sorted), so formatting and key
+ * order changes do not produce a different fingerprint. All other sections of the spec
+ * (e.g. servers, tags, other components) are fingerprinted whole, so the fingerprints
+ * cover the complete spec.
+ */
+public class SpecFingerprints {
+
+    private static final Set<String> OBJECT_SECTIONS = Set.of("info", "channels", "components");
+
+    private static final Set<String> OBJECT_COMPONENTS = Set.of("messages", "schemas", "parameters");
+
+    // YAML is a superset of JSON; this mapper parses specs in either format
+    private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+
+    private static final ObjectMapper canonicalMapper = new ObjectMapper()
+                    .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * Parse an AsyncApi spec in JSON or YAML format
+     * @param asyncApiSpec - Decoded AsyncApi spec
+     * @return
+     * @throws JsonProcessingException if the spec cannot be parsed
+     */
+    public static JsonNode parse(final String asyncApiSpec) throws JsonProcessingException
+    {
+        return yamlMapper.readTree(asyncApiSpec);
+    }
+
+    /**
+     * Compute fingerprints for the objects in an AsyncApi spec
+     * @param asyncApiSpec - Decoded AsyncApi spec in JSON or YAML format
+     * @return Map of object key (e.g. 'channel:orders/created') to fingerprint, sorted by key
+     * @throws JsonProcessingException if the spec cannot be parsed
+     */
+    public static Map<String, String> compute(final String asyncApiSpec) throws JsonProcessingException
+    {
+        return compute(parse(asyncApiSpec));
+    }
+
+    /**
+     * Compute fingerprints for the objects in a parsed AsyncApi spec
+     * @param root - Spec returned by {@link #parse(String)}
+     * @return Map of object key (e.g. 'channel:orders/created', 'section:servers') to
+     * fingerprint, sorted by key
+     * @throws JsonProcessingException
+     */
+    public static Map<String, String> compute(final JsonNode root) throws JsonProcessingException
+    {
+        final Map<String, String> fingerprints = new TreeMap<>();
+        if (root == null) {
+            return fingerprints;
+        }
+
+        addFingerprint(fingerprints, "info", root.path("info"));
+        addFingerprints(fingerprints, "channel:", root.path("channels"));
+
+        final JsonNode components = root.path("components");
+        addFingerprints(fingerprints, "message:", components.path("messages"));
+        addFingerprints(fingerprints, "schema:", components.path("schemas"));
+        addFingerprints(fingerprints, "parameter:", components.path("parameters"));
+
+        addOtherFingerprints(fingerprints, "section:", root, OBJECT_SECTIONS);
+        addOtherFingerprints(fingerprints, "components:", components, OBJECT_COMPONENTS);
+        return fingerprints;
+    }
+
+    /**
+     * Identity of a spec, independent of its version: the title in the info section.
+     * Used with the target application domain to key the fingerprints of the last import.
+     * @param root - Spec returned by {@link #parse(String)}
+     * @return Title, or an empty string if the spec has none
+     */
+    public static String specIdentity(final JsonNode root)
+    {
+        return root == null ? "" : "title:" + root.path("info").path("title").asText("");
+    }
+
+    /**
+     * Fingerprint of import options; objects imported with different options are not
+     * considered unchanged
+     * @param newVersionStrategy
+     * @param importApplication
+     * @param importEventApi
+     * @param cascadeUpdate
+     * @return
+     */
+    public static String optionsFingerprint(
+        final String newVersionStrategy,
+        final boolean importApplication,
+        final boolean importEventApi,
+        final boolean cascadeUpdate
+    )
+    {
+        return HashUtils.sha256Hex(newVersionStrategy + "|" + importApplication + "|" + importEventApi + "|" + cascadeUpdate);
+    }
+
+    private static void addFingerprints(
+        final Map<String, String> fingerprints,
+        final String keyPrefix,
+        final JsonNode objects
+    ) throws JsonProcessingException
+    {
+        final Iterator<Map.Entry<String, JsonNode>> fields = objects.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            addFingerprint(fingerprints, keyPrefix + field.getKey(), field.getValue());
+        }
+    }
+
+    private static void addOtherFingerprints(
+        final Map<String, String> fingerprints,
+        final String keyPrefix,
+        final JsonNode sections,
+        final Set<String> fingerprintedByObject
+    ) throws JsonProcessingException
+    {
+        final Iterator<Map.Entry<String, JsonNode>> fields = sections.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (!fingerprintedByObject.contains(field.getKey())) {
+                addFingerprint(fingerprints, keyPrefix + field.getKey(), field.getValue());
+            }
+        }
+    }
+
+    private static void addFingerprint(
+        final Map<String, String> fingerprints,
+        final String key,
+        final JsonNode object
+    ) throws JsonProcessingException
+    {
+        if (object.isMissingNode()) {
+            return;
+        }
+        final Object canonical = canonicalMapper.treeToValue(object, Object.class);
+        fingerprints.put(key, HashUtils.sha256Hex(canonicalMapper.writeValueAsString(canonical)));
+    }
+}
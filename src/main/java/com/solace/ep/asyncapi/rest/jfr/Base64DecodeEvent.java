@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for decoding a Base64 encoded field of a request
+ */
+@Name("com.solace.ep.asyncapi.rest.Base64Decode")
+@Label("Base64 Decode")
+@Category({ "Solace", "AsyncApi Importer" })
+@Description("Decoding of a Base64 encoded request field")
+public class Base64DecodeEvent extends Event {
+
+    @Label("Encoded Size")
+    @DataAmount
+    int encodedLength;
+
+    @Label("Decoded Size")
+    @DataAmount
+    int decodedLength;
+
+    /**
+     * Create and begin a Base64 decode event
+     * @param encodedLength
+     * @return
+     */
+    public static Base64DecodeEvent start(int encodedLength)
+    {
+        Base64DecodeEvent event = new Base64DecodeEvent();
+        event.encodedLength = encodedLength;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the decoded size and commit the event
+     * @param decodedLength
+     */
+    public void end(int decodedLength)
+    {
+        this.decodedLength = decodedLength;
+        commit();
+    }
+}
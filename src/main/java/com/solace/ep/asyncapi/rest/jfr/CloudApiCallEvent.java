@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.jfr;
+
+import java.util.function.Function;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import reactor.core.publisher.Mono;
+
+/**
+ * JFR event for a call to the Solace Cloud API, with endpoint, HTTP status, and duration
+ */
+@Name("com.solace.ep.asyncapi.rest.CloudApiCall")
+@Label("Solace Cloud API Call")
+@Category({ "Solace", "AsyncApi Importer" })
+@Description("HTTP call to the Solace Cloud API")
+public class CloudApiCallEvent extends Event {
+
+    public static final String
+                CLIENT_REST_TEMPLATE = "RestTemplate",
+                CLIENT_WEB_CLIENT = "WebClient";
+
+    @Label("HTTP Client")
+    String client;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("HTTP Status")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Create and begin a Cloud API call event
+     * @param client
+     * @param method
+     * @param endpoint - URL without query string
+     * @return
+     */
+    public static CloudApiCallEvent start(String client, String method, String endpoint)
+    {
+        CloudApiCallEvent event = new CloudApiCallEvent();
+        event.client = client;
+        event.method = method;
+        event.endpoint = endpoint;
+        event.begin();
+        return event;
+    }
+
+    public void setStatus(int status)
+    {
+        this.status = status;
+    }
+
+    /**
+     * Record the outcome and commit the event
+     * @param outcome
+     */
+    public void end(String outcome)
+    {
+        this.outcome = outcome;
+        commit();
+    }
+
+    /**
+     * Record a non-blocking call. The event begins on subscription and is committed when
+     * the call completes, fails, or is cancelled. The call may set the HTTP status on the
+     * event; a successful call without a status is recorded as 200.
+     * @param <T>
+     * @param method
+     * @param endpoint
+     * @param call
+     * @return
+     */
+    public static <T> Mono<T> record(
+        String method,
+        String endpoint,
+        Function<CloudApiCallEvent, Mono<T>> call
+    )
+    {
+        return Mono.defer(() -> {
+            final CloudApiCallEvent event = start(CLIENT_WEB_CLIENT, method, endpoint);
+            return call.apply(event)
+                .doOnSuccess(value -> {
+                    if (event.status == 0) {
+                        event.status = 200;
+                    }
+                })
+                .doOnError(exc -> {
+                    if (exc instanceof WebClientResponseException webClientException) {
+                        event.status = webClientException.getStatusCode().value();
+                    }
+                })
+                .doFinally(signal -> event.end(signal.toString()));
+        });
+    }
+}
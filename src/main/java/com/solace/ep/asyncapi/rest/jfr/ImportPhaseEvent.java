@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a phase of an import request, e.g. validation, decoding, or the
+ * import operation itself
+ */
+@Name("com.solace.ep.asyncapi.rest.ImportPhase")
+@Label("Import Phase")
+@Category({ "Solace", "AsyncApi Importer" })
+@Description("Phase of an AsyncApi import request")
+public class ImportPhaseEvent extends Event {
+
+    public static final String
+                PHASE_VALIDATION = "validation",
+                PHASE_DECODE = "decode",
+                PHASE_REGION = "region-resolution",
+                PHASE_JOURNAL = "journal-check",
+                PHASE_INCREMENTAL = "incremental-check",
+                PHASE_DOMAIN = "domain-resolution",
+                PHASE_IMPORT = "import",
+                PHASE_RESPONSE = "response";
+
+    @Label("Import ID")
+    String importId;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Create and begin an import phase event
+     * @param importId
+     * @param phase
+     * @return
+     */
+    public static ImportPhaseEvent start(String importId, String phase)
+    {
+        ImportPhaseEvent event = new ImportPhaseEvent();
+        event.importId = importId;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the outcome and commit the event
+     * @param outcome
+     */
+    public void end(String outcome)
+    {
+        this.outcome = outcome;
+        commit();
+    }
+}
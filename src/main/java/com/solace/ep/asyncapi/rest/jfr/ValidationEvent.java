@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a request validation check in ValidationUtils
+ */
+@Name("com.solace.ep.asyncapi.rest.Validation")
+@Label("Request Validation")
+@Category({ "Solace", "AsyncApi Importer" })
+@Description("Validation check of an import request")
+public class ValidationEvent extends Event {
+
+    @Label("Check")
+    String check;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Valid")
+    boolean valid;
+
+    /**
+     * Create and begin a validation event
+     * @param check - Name of the validation check
+     * @param inputLength - Length of the validated input
+     * @return
+     */
+    public static ValidationEvent start(String check, int inputLength)
+    {
+        ValidationEvent event = new ValidationEvent();
+        event.check = check;
+        event.inputLength = inputLength;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record the result and commit the event
+     * @param valid
+     * @return valid
+     */
+    public boolean end(boolean valid)
+    {
+        this.valid = valid;
+        commit();
+        return valid;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.journal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * File-backed journal of import operations. Each import is recorded in its own file,
+ * {@code <importId>.json}, written when the import starts and replaced when it completes,
+ * fails, or is cancelled. Files are replaced atomically, so a reader sees either the old
+ * or the new entry.
+ * <p>
+ * Journal files survive a service restart; an import interrupted by a restart is reported
+ * with status STARTED. Files older than the retention period are removed periodically.
+ */
+@Slf4j
+@Component
+public class ImportJournal {
+
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int LOCK_STRIPES = 64;
+
+    // Striped locks to serialize access to the files of an import ID; stripes are never removed
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${importer.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${importer.journal.directory:${java.io.tmpdir}/asyncapi-importer-journal}")
+    private String directory;
+
+    @Value("${importer.journal.retention-hours:24}")
+    private long retentionHours;
+
+    private Path journalDir;
+
+    public ImportJournal()
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    void init()
+    {
+        if (!enabled) {
+            log.info("Import journal is disabled");
+            return;
+        }
+        journalDir = Paths.get(directory);
+        try {
+            Files.createDirectories(journalDir);
+            log.info("Import journal directory: {}", journalDir.toAbsolutePath());
+        } catch (IOException ioExc) {
+            log.warn("Import journal disabled; could not create directory {}: {}", directory, ioExc.getMessage());
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Find the journal entry for an import ID
+     * @param importId
+     * @return
+     */
+    public Optional<ImportJournalEntry> find(final String importId)
+    {
+        if (!enabled || importId == null) {
+            return Optional.empty();
+        }
+        synchronized (lockFor(importId)) {
+            try {
+                return Optional.ofNullable(read(importId));
+            } catch (IOException ioExc) {
+                log.warn("Could not read import journal for import ID {}: {}", importId, ioExc.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Start recording an import; replaces the entry of a previous attempt with the same import ID
+     * @param importId
+     * @param tokenHash - SHA-256 of the EP token
+     * @param specHash
+     * @param appDomain
+     * @param cloudApiUrl
+     */
+    public void start(
+        final String importId,
+        final String tokenHash,
+        final String specHash,
+        final String appDomain,
+        final String cloudApiUrl
+    )
+    {
+        if (!enabled) {
+            return;
+        }
+        final ImportJournalEntry entry = new ImportJournalEntry();
+        entry.setImportId(importId);
+        entry.setTokenHash(tokenHash);
+        entry.setSpecHash(specHash);
+        entry.setAppDomain(appDomain);
+        entry.setCloudApiUrl(cloudApiUrl);
+        entry.setStatus(ImportJournalEntry.Status.STARTED);
+        entry.setStartTime(System.currentTimeMillis());
+        entry.setUpdateTime(entry.getStartTime());
+
+        synchronized (lockFor(importId)) {
+            try {
+                write(entry);
+            } catch (IOException ioExc) {
+                log.warn("Could not write import journal for import ID {}: {}", importId, ioExc.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Record the final status of an import
+     * @param importId
+     * @param status
+     * @param msgs - Response messages of the import
+     */
+    public void finish(
+        final String importId,
+        final ImportJournalEntry.Status status,
+        final List<String> msgs
+    )
+    {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lockFor(importId)) {
+            try {
+                final ImportJournalEntry entry = read(importId);
+                if (entry == null) {
+                    return;
+                }
+                entry.setStatus(status);
+                entry.setUpdateTime(System.currentTimeMillis());
+                entry.getMsgs().clear();
+                entry.getMsgs().addAll(msgs);
+                write(entry);
+            } catch (IOException ioExc) {
+                log.warn("Could not write import journal for import ID {}: {}", importId, ioExc.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove journal files older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${importer.journal.cleanup-interval-ms:600000}", initialDelayString = "${importer.journal.cleanup-interval-ms:600000}")
+    public void expire()
+    {
+        if (!enabled) {
+            return;
+        }
+        final long cutoff = System.currentTimeMillis() - retentionHours * 3_600_000L;
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(journalDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() < cutoff && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException ioExc) {
+            log.warn("Error expiring import journal files: {}", ioExc.getMessage());
+        }
+        if (removed > 0) {
+            log.info("Removed {} expired import journal files", removed);
+        }
+    }
+
+    private ImportJournalEntry read(final String importId) throws IOException
+    {
+        final Path entryFile = journalDir.resolve(importId + ENTRY_SUFFIX);
+        if (!Files.exists(entryFile)) {
+            return null;
+        }
+        return objectMapper.readValue(entryFile.toFile(), ImportJournalEntry.class);
+    }
+
+    private void write(final ImportJournalEntry entry) throws IOException
+    {
+        final Path tmp = journalDir.resolve(entry.getImportId() + ENTRY_SUFFIX + ".tmp");
+        objectMapper.writeValue(tmp.toFile(), entry);
+        Files.move(tmp, journalDir.resolve(entry.getImportId() + ENTRY_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Object lockFor(final String importId)
+    {
+        return locks[Math.floorMod(importId.hashCode(), LOCK_STRIPES)];
+    }
+}
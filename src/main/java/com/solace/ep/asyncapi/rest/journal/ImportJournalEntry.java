@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Data;
+
+/**
+ * State of a single import operation as recorded in the import journal
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)     // Entries written by earlier versions include confirmedObjects
+public class ImportJournalEntry {
+
+    public enum Status {
+        STARTED,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    private String importId;
+
+    private String tokenHash;           // SHA-256 of the EP token used by the import
+
+    private String specHash;            // SHA-256 of the decoded AsyncApi spec
+
+    private String appDomain;           // App Domain ID or name targeted by the import
+
+    private String cloudApiUrl;
+
+    private Status status;
+
+    private long startTime;             // Epoch millis
+
+    private long updateTime;            // Epoch millis
+
+    private List<String> msgs;          // Response messages of the last completed attempt
+
+    public List<String> getMsgs() {
+        if (this.msgs == null) {
+            this.msgs = new ArrayList<>();
+        }
+        return this.msgs;
+    }
+
+    /**
+     * Test if this entry records an import of the same spec into the same app domain,
+     * made with the same EP token
+     * @param tokenHash
+     * @param specHash
+     * @param appDomain
+     * @param cloudApiUrl
+     * @return
+     */
+    public boolean isSameImport(
+        final String tokenHash,
+        final String specHash,
+        final String appDomain,
+        final String cloudApiUrl
+    )
+    {
+        return tokenHash != null && tokenHash.equals(this.tokenHash) &&
+                specHash != null && specHash.equals(this.specHash) &&
+                appDomain != null && appDomain.equals(this.appDomain) &&
+                cloudApiUrl != null && cloudApiUrl.equals(this.cloudApiUrl);
+    }
+}
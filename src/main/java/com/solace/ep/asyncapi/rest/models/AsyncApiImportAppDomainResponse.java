@@ -33,6 +33,8 @@ public class AsyncApiImportAppDomainResponse {
 
     private List<AppDomainItem> applicationDomains;     // List of application domain objects
 
+    private String nextCursor;                          // Cursor for the next page; null if no more domains
+
     public List<AppDomainItem> getApplicationDomains() {
         if (this.applicationDomains == null) {
             this.applicationDomains = new ArrayList<>();
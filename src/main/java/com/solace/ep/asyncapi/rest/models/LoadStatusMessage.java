@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Return type for readiness and liveness requests; reports the load of this instance
+ */
+@Data
+public class LoadStatusMessage {
+
+    private boolean ready;
+
+    private List<String> reasons;           // Reasons for 'not ready'; empty when ready
+
+    private int activeImports;
+
+    private int maxActiveImports;           // Imports run at once; see importer.scheduling.max-concurrent-imports
+
+    private int queuedImports;              // Imports waiting for a slot from the fair scheduler
+
+    private int maxQueuedImports;           // Queued imports threshold for readiness
+
+    private int queuedRequests;
+
+    private int requestPoolActiveThreads;
+
+    private int requestPoolMaxThreads;
+
+    private long heapUsedBytes;
+
+    private long heapMaxBytes;
+
+    private int heapHeadroomPercent;
+
+    private long startupMillis;             // JVM start to ready; -1 if not ready yet
+
+    private List<ThreadPoolStatus> pools;   // Request, import, and lookup thread pools
+
+    public List<String> getReasons() {
+        if (this.reasons == null) {
+            this.reasons = new ArrayList<>();
+        }
+        return this.reasons;
+    }
+
+    public List<ThreadPoolStatus> getPools() {
+        if (this.pools == null) {
+            this.pools = new ArrayList<>();
+        }
+        return this.pools;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Return type for '/importer/watch/status'
+ */
+@Data
+public class WatchStatusMessage {
+
+    private boolean enabled;
+
+    private List<String> directories;
+
+    private List<WatchedFileStatus> files;
+
+    public List<String> getDirectories() {
+        if (this.directories == null) {
+            this.directories = new ArrayList<>();
+        }
+        return this.directories;
+    }
+
+    public List<WatchedFileStatus> getFiles() {
+        if (this.files == null) {
+            this.files = new ArrayList<>();
+        }
+        return this.files;
+    }
+}
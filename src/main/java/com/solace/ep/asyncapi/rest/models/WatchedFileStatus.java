@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.models;
+
+import lombok.Data;
+
+/**
+ * Status of a spec file in a watched directory
+ */
+@Data
+public class WatchedFileStatus {
+
+    public enum Status {
+        PENDING,            // Change detected; waiting for the debounce period or a free import slot
+        IMPORTING,
+        IMPORTED,
+        UNCHANGED,          // Content is identical to the last successful import
+        FAILED,
+        DELETED
+    }
+
+    private String path;
+
+    private String appDomain;
+
+    private Status status;
+
+    private String specHash;                // SHA-256 of the file content at the last import attempt
+
+    private String importId;
+
+    private int httpStatus;                 // HTTP status of the last import; 0 if not imported yet
+
+    private long lastChanged;
+
+    private long lastImported;
+
+    private String summary;                 // Last message of the last import attempt
+}
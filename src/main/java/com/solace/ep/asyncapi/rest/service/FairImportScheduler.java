@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Weighted fair queuing of imports across tenants. Each queued import is given a virtual
+ * finish time: its start time (the later of the scheduler's virtual time and the finish
+ * time of the tenant's previous import) plus its cost divided by the tenant's weight.
+ * When a slot is free, the queued import with the earliest finish time whose tenant is
+ * below its concurrency cap is started.
+ * <p>
+ * Cost is based on the size of the AsyncApi spec, so small interactive imports are
+ * started ahead of the remaining imports of a tenant submitting a large batch.
+ */
+@Slf4j
+@Component
+public class FairImportScheduler {
+
+    /**
+     * An import waiting for, or holding, a slot
+     */
+    public static class Ticket {
+        private final String tenant;
+        private final long sequence;
+        private final double startTag;
+        private final double finishTag;
+        private boolean granted = false;
+        private boolean cancelled = false;
+        private boolean released = false;
+        private final CompletableFuture<Boolean> decision = new CompletableFuture<>();
+
+        private Ticket(String tenant, long sequence, double startTag, double finishTag)
+        {
+            this.tenant = tenant;
+            this.sequence = sequence;
+            this.startTag = startTag;
+            this.finishTag = finishTag;
+        }
+
+        public String getTenant()
+        {
+            return tenant;
+        }
+
+        /**
+         * Completes with true when the ticket is granted a slot, or with false when it is
+         * cancelled while queued. Dependent actions run while the scheduler is locked and
+         * must only hand off work, e.g. to an executor.
+         * @return
+         */
+        public CompletionStage<Boolean> decision()
+        {
+            return decision.minimalCompletionStage();
+        }
+    }
+
+    private static class TenantState {
+        double lastFinishTag = 0;
+        int running = 0;
+        int queued = 0;
+    }
+
+    private static final long COST_UNIT_BYTES = 16 * 1024;
+
+    private final ImportSchedulingProperties properties;
+
+    private final TreeSet<Ticket> queue = new TreeSet<>(
+                Comparator.comparingDouble((Ticket ticket) -> ticket.finishTag).thenComparingLong(ticket -> ticket.sequence));
+
+    private final Map<String, TenantState> tenants = new HashMap<>();
+
+    private double virtualTime = 0;
+
+    private long sequence = 0;
+
+    private int running = 0;
+
+    public FairImportScheduler(ImportSchedulingProperties properties)
+    {
+        this.properties = properties;
+    }
+
+    /**
+     * Cost of an import of a spec of the given size
+     * @param specLength
+     * @return
+     */
+    public static long costOf(final int specLength)
+    {
+        return 1 + specLength / COST_UNIT_BYTES;
+    }
+
+    /**
+     * Queue an import for a tenant
+     * @param tenant
+     * @param cost
+     * @return
+     */
+    public synchronized Ticket enqueue(final String tenant, final long cost)
+    {
+        final TenantState tenantState = tenants.computeIfAbsent(tenant, key -> new TenantState());
+        final double startTag = Math.max(virtualTime, tenantState.lastFinishTag);
+        final double finishTag = startTag + (double) Math.max(1, cost) / properties.getWeight(tenant);
+        tenantState.lastFinishTag = finishTag;
+        tenantState.queued++;
+        final Ticket ticket = new Ticket(tenant, ++sequence, startTag, finishTag);
+        if (!properties.isEnabled()) {
+            tenantState.queued--;
+            tenantState.running++;
+            running++;
+            ticket.granted = true;
+            ticket.decision.complete(true);
+            return ticket;
+        }
+        queue.add(ticket);
+        dispatch();
+        return ticket;
+    }
+
+    /**
+     * Cancel a queued ticket; a ticket already granted must be released
+     * @param ticket
+     */
+    public synchronized void cancel(final Ticket ticket)
+    {
+        if (!ticket.granted) {
+            ticket.cancelled = true;
+            ticket.decision.complete(false);
+        }
+    }
+
+    /**
+     * Release the slot held by a ticket, or remove it from the queue
+     * @param ticket
+     */
+    public synchronized void release(final Ticket ticket)
+    {
+        if (ticket.released) {
+            return;
+        }
+        ticket.released = true;
+        final TenantState tenantState = tenants.get(ticket.tenant);
+        if (ticket.granted) {
+            tenantState.running--;
+            running--;
+        } else if (queue.remove(ticket)) {
+            tenantState.queued--;
+        }
+        if (tenantState.running == 0 && tenantState.queued == 0) {
+            tenants.remove(ticket.tenant);
+        }
+        dispatch();
+    }
+
+    public synchronized int getQueuedImports()
+    {
+        return queue.size();
+    }
+
+    public synchronized int getRunningImports()
+    {
+        return running;
+    }
+
+    public int getMaxConcurrentImports()
+    {
+        return properties.getMaxConcurrentImports();
+    }
+
+    private void dispatch()
+    {
+        final Iterator<Ticket> iterator = queue.iterator();
+        while (running < properties.getMaxConcurrentImports() && iterator.hasNext()) {
+            final Ticket ticket = iterator.next();
+            final TenantState tenantState = tenants.get(ticket.tenant);
+            if (ticket.cancelled) {
+                continue;
+            }
+            if (tenantState.running >= properties.getMaxConcurrent(ticket.tenant)) {
+                continue;
+            }
+            iterator.remove();
+            tenantState.queued--;
+            tenantState.running++;
+            running++;
+            virtualTime = Math.max(virtualTime, ticket.startTag);
+            ticket.granted = true;
+            ticket.decision.complete(true);
+            log.debug("Import slot granted to tenant {}; Running: {} -- Queued: {}", ticket.tenant, running, queue.size());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.service;
+
+/**
+ * Thrown when an import is stopped before completion, either because the
+ * client-supplied deadline passed or because the import was cancelled
+ */
+public class ImportCancelledException extends Exception {
+
+    private final boolean deadlineExceeded;
+
+    public ImportCancelledException(String message, boolean deadlineExceeded)
+    {
+        super(message);
+        this.deadlineExceeded = deadlineExceeded;
+    }
+
+    /**
+     * True if the import was stopped because the deadline passed;
+     * false if the import was cancelled
+     * @return
+     */
+    public boolean isDeadlineExceeded()
+    {
+        return deadlineExceeded;
+    }
+}
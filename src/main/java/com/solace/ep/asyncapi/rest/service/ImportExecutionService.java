@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.solace.ep.asyncapi.rest.health.ImportLoadMonitor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes import operations on worker threads so that they can be stopped when a
+ * deadline passes or when they are cancelled by import ID. No thread waits for an
+ * import: {@link #execute} returns a future that is completed by the worker when the
+ * import completes, or by the deadline or cancellation that stops it.
+ * <p>
+ * Imports are started in fair order across tenants by the {@link FairImportScheduler};
+ * the deadline includes the time an import waits for a slot.
+ * <p>
+ * A stopped import is interrupted and its future is completed at once, so the caller
+ * can respond without waiting for the worker. Calls to the Solace Cloud API already in
+ * progress are not aborted; the worker stops when the importer next observes the
+ * interrupt or the call returns, and only then releases its import slot and the
+ * reservation of the import ID, so neither is reused while the worker is still running.
+ */
+@Slf4j
+@Service
+public class ImportExecutionService {
+
+    /**
+     * Import operation to execute
+     */
+    @FunctionalInterface
+    public interface ImportTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * State of a reserved import ID; guarded by its own lock
+     */
+    private static class RunningImport {
+        final String importId;
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        FairImportScheduler.Ticket ticket;
+        Thread worker;
+        boolean started = false;
+        ImportCancelledException stopReason;        // Set when the import is cancelled or its deadline passes
+        ScheduledFuture<?> deadline;
+
+        RunningImport(String importId)
+        {
+            this.importId = importId;
+        }
+    }
+
+    private final ConcurrentMap<String, RunningImport> runningImports = new ConcurrentHashMap<>();
+
+    private final AtomicInteger workerCounter = new AtomicInteger(0);
+
+    private final ThreadPoolExecutor importExecutor;
+
+    private final ScheduledExecutorService deadlineExecutor;
+
+    private final ImportLoadMonitor importLoadMonitor;
+
+    private final FairImportScheduler importScheduler;
+
+    private final Duration shutdownTimeout;
+
+    public ImportExecutionService(
+        ImportLoadMonitor importLoadMonitor,
+        FairImportScheduler importScheduler,
+        ImportSchedulingProperties schedulingProperties,
+        @Value("${spring.lifecycle.timeout-per-shutdown-phase:120s}") Duration shutdownTimeout
+    )
+    {
+        this.importLoadMonitor = importLoadMonitor;
+        this.importScheduler = importScheduler;
+        this.shutdownTimeout = shutdownTimeout;
+        // Sized to the scheduler's concurrency limit; a worker is held until its import stops
+        final int workerThreads = Math.max(1, schedulingProperties.getMaxConcurrentImports());
+        this.importExecutor = new ThreadPoolExecutor(workerThreads, workerThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "import-worker-" + workerCounter.incrementAndGet());
+                thread.setDaemon(false);
+                return thread;
+            });
+        // Enforces deadlines and completes imports stopped while queued
+        this.deadlineExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "import-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        importLoadMonitor.registerPool("import-workers", () -> importExecutor);
+    }
+
+    /**
+     * Reserve an import ID. Only the caller that reserves an import ID may record or execute
+     * the import; the reservation is held until {@link #release(String)}.
+     * @param importId
+     * @return false if the import ID is already reserved by a running import
+     */
+    public boolean reserve(final String importId)
+    {
+        return runningImports.putIfAbsent(importId, new RunningImport(importId)) == null;
+    }
+
+    /**
+     * Release the reservation of an import ID
+     * @param importId
+     */
+    public void release(final String importId)
+    {
+        runningImports.remove(importId);
+    }
+
+    /**
+     * Queue an import for execution. The import ID must be reserved with {@link #reserve(String)};
+     * the reservation is then released by this service when the import stops, which may be
+     * after the returned future is completed.
+     * @param importId - ID used to cancel the import
+     * @param tenant - Tenant key used for fair scheduling
+     * @param cost - Scheduling cost of the import; see {@link FairImportScheduler#costOf(int)}
+     * @param threadNamePrefix - The worker thread is named with this prefix while the import runs,
+     *                           so that log capture by thread prefix includes the import
+     * @param timeoutMs - Maximum time for the import, including time queued; 0 or less for no limit
+     * @param importTask
+     * @return Future completed when the import completes; completed exceptionally with
+     *         {@link ImportCancelledException} as soon as the deadline passes or the import is
+     *         cancelled, or with the exception thrown by the import operation
+     */
+    public CompletableFuture<Void> execute(
+        final String importId,
+        final String tenant,
+        final long cost,
+        final String threadNamePrefix,
+        final long timeoutMs,
+        final ImportTask importTask
+    )
+    {
+        final RunningImport runningImport = runningImports.get(importId);
+        if (runningImport == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Import ID " + importId + " is not reserved"));
+        }
+        final FairImportScheduler.Ticket ticket;
+        synchronized (runningImport) {
+            if (runningImport.ticket != null) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Import ID " + importId + " is already queued"));
+            }
+            if (runningImport.stopReason == null) {
+                runningImport.ticket = importScheduler.enqueue(tenant, cost);
+                if (timeoutMs > 0) {
+                    runningImport.deadline = deadlineExecutor.schedule(
+                        () -> deadlinePassed(importId, runningImport, timeoutMs), timeoutMs, TimeUnit.MILLISECONDS);
+                }
+            }
+            ticket = runningImport.ticket;
+        }
+        if (ticket == null) {
+            // Cancelled before it was queued; the future was completed when it was cancelled
+            releaseReservation(runningImport);
+            return runningImport.completion;
+        }
+        ticket.decision().whenComplete((granted, exc) -> {
+            try {
+                if (Boolean.TRUE.equals(granted)) {
+                    importExecutor.execute(() -> runImport(runningImport, threadNamePrefix, importTask));
+                } else {
+                    deadlineExecutor.execute(() -> stopQueued(runningImport));
+                }
+            } catch (RejectedExecutionException rejectedExc) {
+                // Shutting down; may be called with the scheduler locked, so the import lock is not taken
+                importScheduler.release(ticket);
+                runningImport.completion.completeExceptionally(new ImportCancelledException("Import service is stopping", false));
+                releaseReservation(runningImport);
+            }
+        });
+        return runningImport.completion;
+    }
+
+    /**
+     * Run an import granted a slot; executed on a worker thread
+     */
+    private void runImport(
+        final RunningImport runningImport,
+        final String threadNamePrefix,
+        final ImportTask importTask
+    )
+    {
+        final Thread thread = Thread.currentThread();
+        final ImportCancelledException stoppedBeforeStart;
+        synchronized (runningImport) {
+            stoppedBeforeStart = runningImport.stopReason;
+            if (stoppedBeforeStart == null) {
+                runningImport.worker = thread;
+                runningImport.started = true;
+            }
+        }
+        if (stoppedBeforeStart != null) {
+            // Stopped after the slot was granted but before the import started
+            importScheduler.release(runningImport.ticket);
+            complete(runningImport, stoppedBeforeStart);
+            releaseReservation(runningImport);
+            return;
+        }
+        final String workerName = thread.getName();
+        thread.setName(threadNamePrefix + "main");
+        importLoadMonitor.importStarted();
+        Throwable failure = null;
+        try {
+            importTask.run();
+        } catch (Throwable exc) {
+            failure = exc;
+        } finally {
+            synchronized (runningImport) {
+                runningImport.worker = null;
+                if (runningImport.stopReason != null) {
+                    failure = runningImport.stopReason;
+                }
+            }
+            // Clear an interrupt that arrived after the import completed
+            Thread.interrupted();
+            importLoadMonitor.importFinished();
+            thread.setName(workerName);
+            importScheduler.release(runningImport.ticket);
+        }
+        // Completes the future unless the import was stopped, which completed it already;
+        // the reservation is released after the response has been recorded
+        complete(runningImport, failure);
+        releaseReservation(runningImport);
+    }
+
+    /**
+     * Complete an import stopped while queued
+     */
+    private void stopQueued(final RunningImport runningImport)
+    {
+        final ImportCancelledException stopReason;
+        synchronized (runningImport) {
+            stopReason = runningImport.stopReason != null ? runningImport.stopReason :
+                        new ImportCancelledException("Import cancelled", false);
+        }
+        importScheduler.release(runningImport.ticket);
+        complete(runningImport, stopReason);
+        releaseReservation(runningImport);
+    }
+
+    private void releaseReservation(final RunningImport runningImport)
+    {
+        runningImports.remove(runningImport.importId, runningImport);
+    }
+
+    private void complete(final RunningImport runningImport, final Throwable failure)
+    {
+        synchronized (runningImport) {
+            if (runningImport.deadline != null) {
+                runningImport.deadline.cancel(false);
+            }
+        }
+        if (failure == null) {
+            runningImport.completion.complete(null);
+        } else {
+            runningImport.completion.completeExceptionally(failure);
+        }
+    }
+
+    private void deadlinePassed(final String importId, final RunningImport runningImport, final long timeoutMs)
+    {
+        final boolean queued;
+        synchronized (runningImport) {
+            queued = !runningImport.started;
+        }
+        if (stop(runningImport, new ImportCancelledException(
+                    "Deadline of " + timeoutMs + " ms exceeded" + (queued ? " while queued" : ""), true))) {
+            log.warn("Import ID {} stopped; deadline of {} ms exceeded", importId, timeoutMs);
+        }
+    }
+
+    /**
+     * Stop an import: remove it from the queue, or interrupt its worker, and complete its
+     * future with the stop reason. The worker keeps its slot until it exits.
+     * @return false if the import was already stopped or completed
+     */
+    private boolean stop(final RunningImport runningImport, final ImportCancelledException stopReason)
+    {
+        synchronized (runningImport) {
+            if (runningImport.stopReason != null || runningImport.completion.isDone()) {
+                return false;
+            }
+            runningImport.stopReason = stopReason;
+            if (runningImport.worker != null) {
+                runningImport.worker.interrupt();
+            }
+            if (runningImport.ticket != null) {
+                importScheduler.cancel(runningImport.ticket);
+            }
+            if (runningImport.deadline != null) {
+                runningImport.deadline.cancel(false);
+            }
+        }
+        // Completed outside the import lock, as dependent actions build the response
+        runningImport.completion.completeExceptionally(stopReason);
+        return true;
+    }
+
+    /**
+     * Cancel a running import
+     * @param importId
+     * @return true if the import was running and has been cancelled
+     */
+    public boolean cancel(final String importId)
+    {
+        final RunningImport runningImport = importId == null ? null : runningImports.get(importId);
+        if (runningImport == null) {
+            return false;
+        }
+        stop(runningImport, new ImportCancelledException("Import cancelled", false));
+        log.info("Import ID {} cancelled", importId);
+        return true;
+    }
+
+    /**
+     * Let running imports complete; imports still queued are stopped
+     */
+    @PreDestroy
+    void shutdown()
+    {
+        importExecutor.shutdown();
+        try {
+            if (!importExecutor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Imports still running after {}; Stopping", shutdownTimeout);
+                importExecutor.shutdownNow();
+            }
+        } catch (InterruptedException interruptedExc) {
+            importExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        deadlineExecutor.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configuration of fair scheduling of imports across tenants, bound from
+ * importer.scheduling.* properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "importer.scheduling")
+public class ImportSchedulingProperties {
+
+    private boolean enabled = true;
+
+    private int maxConcurrentImports = 8;           // Imports running at once across all tenants
+
+    private int defaultWeight = 1;
+
+    private int defaultMaxConcurrentPerTenant = 2;
+
+    private Map<String, Integer> weights = new HashMap<>();         // Tenant -> weight
+
+    private Map<String, Integer> maxConcurrent = new HashMap<>();   // Tenant -> concurrency cap
+
+    public int getWeight(String tenant)
+    {
+        return Math.max(1, weights.getOrDefault(tenant, defaultWeight));
+    }
+
+    public int getMaxConcurrent(String tenant)
+    {
+        return Math.max(1, maxConcurrent.getOrDefault(tenant, defaultMaxConcurrentPerTenant));
+    }
+}
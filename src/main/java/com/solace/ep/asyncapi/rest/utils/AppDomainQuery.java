@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.http.ResponseEntity;
+
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
+
+/**
+ * Server-side filter and cursor paging for application domain queries. Names are matched
+ * case-insensitively. Paged results are ordered by name (case-insensitive), then ID; the
+ * cursor records the last domain returned and the next page starts after it, so domains
+ * added or removed between pages do not cause other domains to be skipped or repeated.
+ * The cursor is opaque to clients; it is returned as 'nextCursor' when more matching
+ * domains are available.
+ * <p>
+ * The Solace Cloud API has no name-ordered paging; the full domain list is retrieved for
+ * each page and the page is selected here.
+ */
+public class AppDomainQuery {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String CURSOR_PREFIX = "after:", CURSOR_SEPARATOR = "\n";
+
+    // Page order: name (case-insensitive), then ID
+    public static final Comparator<AppDomainItem> PAGE_ORDER =
+                Comparator.comparing(AppDomainQuery::sortName).thenComparing(AppDomainQuery::sortId);
+
+    private final String nameContains;
+
+    private final String prefix;
+
+    private final AppDomainItem after;      // Last domain of the previous page; null for the first page
+
+    private final int limit;        // 0 = no limit
+
+    private AppDomainQuery(String nameContains, String prefix, AppDomainItem after, int limit)
+    {
+        this.nameContains = nameContains;
+        this.prefix = prefix;
+        this.after = after;
+        this.limit = limit;
+    }
+
+    /**
+     * Create a query from request parameters; all parameters are optional
+     * @param nameContains
+     * @param prefix
+     * @param cursor
+     * @param limit
+     * @return
+     * @throws IllegalArgumentException if the cursor or limit is not valid
+     */
+    public static AppDomainQuery of(
+        final String nameContains,
+        final String prefix,
+        final String cursor,
+        final Integer limit
+    )
+    {
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("'limit' must be between 1 and " + MAX_LIMIT);
+        }
+        return new AppDomainQuery(
+            nameContains == null || nameContains.isEmpty() ? null : nameContains.toLowerCase(Locale.ROOT),
+            prefix == null || prefix.isEmpty() ? null : prefix.toLowerCase(Locale.ROOT),
+            decodeCursor(cursor),
+            limit == null ? 0 : limit);
+    }
+
+    /**
+     * Test if an application domain matches the name filters
+     * @param appDomain
+     * @return
+     */
+    public boolean matches(final AppDomainItem appDomain)
+    {
+        if (nameContains == null && prefix == null) {
+            return true;
+        }
+        final String name = appDomain.getName() == null ? "" : appDomain.getName().toLowerCase(Locale.ROOT);
+        return (nameContains == null || name.contains(nameContains)) && (prefix == null || name.startsWith(prefix));
+    }
+
+    public int getLimit()
+    {
+        return limit;
+    }
+
+    /**
+     * Apply the filters and the page defined by the query to a successful response.
+     * The response passed in is not modified.
+     * @param responseEntity
+     * @return
+     */
+    public ResponseEntity<AsyncApiImportAppDomainResponse> apply(
+        final ResponseEntity<AsyncApiImportAppDomainResponse> responseEntity
+    )
+    {
+        if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null ||
+                (nameContains == null && prefix == null && after == null && limit == 0)) {
+            return responseEntity;
+        }
+        Stream<AppDomainItem> matchingDomains = responseEntity.getBody().getApplicationDomains().stream()
+                    .filter(this::matches)
+                    .filter(appDomain -> after == null || PAGE_ORDER.compare(appDomain, after) > 0);
+        if (after != null || limit > 0) {
+            // Filter-only queries keep the order returned by the Solace Cloud API
+            matchingDomains = matchingDomains.sorted(PAGE_ORDER);
+        }
+        final List<AppDomainItem> matching = matchingDomains.toList();
+        final int to = limit == 0 ? matching.size() : Math.min(limit, matching.size());
+
+        final AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+        response.getMsgs().addAll(responseEntity.getBody().getMsgs());
+        response.getApplicationDomains().addAll(matching.subList(0, to));
+        if (to < matching.size()) {
+            response.setNextCursor(encodeCursor(matching.get(to - 1)));
+        }
+        return new ResponseEntity<>(response, responseEntity.getHeaders(), responseEntity.getStatusCode());
+    }
+
+    private static String sortName(final AppDomainItem appDomain)
+    {
+        return appDomain.getName() == null ? "" : appDomain.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String sortId(final AppDomainItem appDomain)
+    {
+        return appDomain.getId() == null ? "" : appDomain.getId();
+    }
+
+    private static String encodeCursor(final AppDomainItem last)
+    {
+        final String cursor = CURSOR_PREFIX + sortName(last) + CURSOR_SEPARATOR + sortId(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static AppDomainItem decodeCursor(final String cursor)
+    {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+            if (decoded.startsWith(CURSOR_PREFIX) && separator >= CURSOR_PREFIX.length()) {
+                return new AppDomainItem(
+                    decoded.substring(separator + CURSOR_SEPARATOR.length()),
+                    decoded.substring(CURSOR_PREFIX.length(), separator));
+            }
+        } catch (IllegalArgumentException exc) {
+            // Fall through to invalid cursor
+        }
+        throw new IllegalArgumentException("'cursor' is not valid; use the 'nextCursor' value from a previous response");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Static functions to compute hashes used as keys for specs and tokens.
+ * Tokens are never used as keys or logged directly; use the hash instead.
+ */
+public class HashUtils {
+
+    /**
+     * SHA-256 of the UTF-8 bytes of a string as lower case hex
+     * @param value
+     * @return
+     */
+    public static String sha256Hex(final String value)
+    {
+        return sha256Hex(value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 of a byte array as lower case hex
+     * @param value
+     * @return
+     */
+    public static String sha256Hex(final byte[] value)
+    {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value));
+        } catch (NoSuchAlgorithmException exc) {
+            // SHA-256 is required to be supported by every Java platform
+            throw new IllegalStateException(exc);
+        }
+    }
+}
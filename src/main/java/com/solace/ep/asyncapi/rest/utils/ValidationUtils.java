@@ -21,6 +21,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.regex.Pattern;
 
+import com.solace.ep.asyncapi.rest.jfr.Base64DecodeEvent;
+import com.solace.ep.asyncapi.rest.jfr.ValidationEvent;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportBinaryRequest;
 import com.solace.ep.asyncapi.rest.models.AsyncApiImportRequest;
 
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +37,9 @@ public class ValidationUtils {
     // Pattern for character set valid for Base64 encoded strings
     private static final Pattern BASE64_PATTERN = Pattern.compile("^[A-Za-z0-9+/=]*$");
 
+    // Pattern for client-supplied import IDs; also used as journal file names
+    private static final Pattern IMPORT_ID_PATTERN = Pattern.compile("^[A-Za-z0-9._-]{1,64}$");
+
     public static final String
                 URL_US = "https://api.solace.cloud",
                 URL_AU = "https://api.solacecloud.com.au",
@@ -42,6 +48,10 @@ public class ValidationUtils {
 
     public static final String
                 TOKEN_PERMISSIONS_PATH = "/api/v0/token/permissions";
+
+    // urlRegion value to discover the region of the EP token
+    public static final String
+                REGION_AUTO = "AUTO";
     
     /**
      * Test if a string looks like it is base64 encoded
@@ -50,6 +60,11 @@ public class ValidationUtils {
      * @return
      */
     public static boolean isBase64(String str) {
+        final ValidationEvent event = ValidationEvent.start("isBase64", str == null ? 0 : str.length());
+        return event.end(checkBase64(str));
+    }
+
+    private static boolean checkBase64(String str) {
         // Check if the string is null or empty
         if (str == null || str.isEmpty()) {
             return false;
@@ -80,7 +95,10 @@ public class ValidationUtils {
 
     public static String decodeBase64(String base64ToDecode ) throws Exception
     {
-        return new String(Base64.getDecoder().decode(base64ToDecode), StandardCharsets.UTF_8);
+        final Base64DecodeEvent event = Base64DecodeEvent.start(base64ToDecode.length());
+        final byte[] decoded = Base64.getDecoder().decode(base64ToDecode);
+        event.end(decoded.length);
+        return new String(decoded, StandardCharsets.UTF_8);
     }
 
     /**
@@ -92,6 +110,8 @@ public class ValidationUtils {
         final AsyncApiImportRequest request
     )
     {
+        final ValidationEvent event = ValidationEvent.start("validRequestBody",
+                    request.getAsyncApiSpec() == null ? 0 : request.getAsyncApiSpec().length());
         boolean isValid = true;
         if (!isBase64(request.getEpToken()))
         {
@@ -103,6 +123,83 @@ public class ValidationUtils {
             log.error("AsyncApi spec must be present and Base64 encoded");
             isValid = false;
         }
+        return event.end(isValid);
+    }
+
+    /**
+     * Test if EP Token and AsyncApi in binary request body are present
+     * @param request
+     * @return
+     */
+    public static boolean validBinaryRequestBody(
+        final AsyncApiImportBinaryRequest request
+    )
+    {
+        final ValidationEvent event = ValidationEvent.start("validBinaryRequestBody",
+                    request.getAsyncApiSpec() == null ? 0 : request.getAsyncApiSpec().length);
+        boolean isValid = true;
+        if (request.getEpToken() == null || request.getEpToken().length == 0)
+        {
+            log.error("EP Token must be present");
+            isValid = false;
+        }
+        if (request.getAsyncApiSpec() == null || request.getAsyncApiSpec().length == 0)
+        {
+            log.error("AsyncApi spec must be present");
+            isValid = false;
+        }
+        return event.end(isValid);
+    }
+
+    /**
+     * Test if client-supplied import ID is valid. Import ID is optional.
+     * @param importId
+     * @return
+     */
+    public static boolean validImportId(
+        final String importId
+    )
+    {
+        boolean isValid = true;
+        if (importId != null && !importId.isBlank() &&
+                (!IMPORT_ID_PATTERN.matcher(importId).matches() || importId.startsWith("."))) {
+            log.error("'importId' must be 1-64 characters from: [A-Z, a-z, 0-9, '.', '_', '-'] and must not start with '.'");
+            isValid = false;
+        }
+        return isValid;
+    }
+
+    /**
+     * Test if client-supplied tenant ID is valid. Tenant ID is optional.
+     * @param tenantId
+     * @return
+     */
+    public static boolean validTenantId(
+        final String tenantId
+    )
+    {
+        boolean isValid = true;
+        if (tenantId != null && !tenantId.isBlank() && !IMPORT_ID_PATTERN.matcher(tenantId).matches()) {
+            log.error("Tenant ID must be 1-64 characters from: [A-Z, a-z, 0-9, '.', '_', '-']");
+            isValid = false;
+        }
+        return isValid;
+    }
+
+    /**
+     * Test if import timeout is valid. Timeout is optional.
+     * @param timeoutMs
+     * @return
+     */
+    public static boolean validTimeout(
+        final Long timeoutMs
+    )
+    {
+        boolean isValid = true;
+        if (timeoutMs != null && timeoutMs <= 0) {
+            log.error("Import timeout must be a positive number of milliseconds if specified");
+            isValid = false;
+        }
         return isValid;
     }
 
@@ -148,14 +245,31 @@ public class ValidationUtils {
                     break;
                 case "SG":
                     break;
+                case REGION_AUTO:
+                    break;
                 default:
-                    log.error("solaceCloudApi region must be one of: ['US', 'EU', 'AU', 'SG'] if specified; 'US' is the default");
+                    log.error("solaceCloudApi region must be one of: ['US', 'EU', 'AU', 'SG', 'AUTO'] if specified; 'US' is the default");
                     isValid = false;
             }
         }
         return isValid;
     }
 
+    /**
+     * Test if the Solace Cloud API region is to be discovered from the EP token.
+     * urlOverride takes precedence over urlRegion.
+     * @param urlRegion
+     * @param urlOverride
+     * @return
+     */
+    public static boolean isAutoRegion(
+        final String urlRegion,
+        final String urlOverride
+    )
+    {
+        return (urlOverride == null || urlOverride.isBlank()) && REGION_AUTO.equalsIgnoreCase(urlRegion);
+    }
+
     /**
      * Test if newVersionStrateg is a valid value
      * @param newVersionStrategy
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudApiCalls;
+import com.solace.ep.asyncapi.rest.controller.AsyncApiImportController;
+import com.solace.ep.asyncapi.rest.health.ImportLoadMonitor;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportRequest;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional JIT warm-up. When enabled, synthetic imports are run through the full import
+ * path (validation, decoding, JSON and YAML spec parsing, the Event Portal client, and
+ * response serialization) against an in-process stub of the Solace Cloud API after
+ * startup. Warm-up imports are not recorded in the import journal or the fingerprint
+ * store. The instance reports 'not ready' until the warm-up finishes or its time
+ * budget is spent.
+ */
+@Slf4j
+@Component
+public class JitWarmup {
+
+    private static final String WARMUP_TOKEN = "warmup-token";
+
+    private static final String WARMUP_TENANT = "warmup";
+
+    private final ImportLoadMonitor importLoadMonitor;
+
+    private final AsyncApiImportController importController;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    @Value("${importer.warmup.time-budget-ms:30000}")
+    private long timeBudgetMs;
+
+    @Value("${importer.warmup.iterations:6}")
+    private int iterations;
+
+    @Value("${importer.warmup.channels:20}")
+    private int channels;
+
+    public JitWarmup(
+        ImportLoadMonitor importLoadMonitor,
+        AsyncApiImportController importController,
+        ObjectMapper objectMapper,
+        @Value("${importer.warmup.enabled:false}") boolean enabled
+    )
+    {
+        this.importLoadMonitor = importLoadMonitor;
+        this.importController = importController;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        if (enabled) {
+            // Not ready from startup until the warm-up finishes
+            importLoadMonitor.setWarmupInProgress(true);
+        }
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event)
+    {
+        if (!enabled) {
+            return;
+        }
+        final Thread warmupThread = new Thread(this::runWarmup, "jit-warmup");
+        warmupThread.setDaemon(true);
+        warmupThread.start();
+    }
+
+    private void runWarmup()
+    {
+        final long startTime = System.currentTimeMillis();
+        final long deadline = startTime + timeBudgetMs;
+        int completed = 0;
+        log.info("JIT warm-up started; Iterations: {} -- Time budget: {} ms", iterations, timeBudgetMs);
+        try (WarmupStubServer stubServer = WarmupStubServer.start()) {
+            final Map<String, Object> spec = SyntheticSpec.create("JIT Warm-up", channels);
+            final String jsonSpec = objectMapper.writeValueAsString(spec);
+            final String yamlSpec = new YAMLMapper().writeValueAsString(spec);
+
+            for (int i = 0; i < iterations && !importLoadMonitor.isShuttingDown(); i++) {
+                final long remainingMs = deadline - System.currentTimeMillis();
+                if (remainingMs <= 0) {
+                    log.warn("JIT warm-up time budget of {} ms spent after {} iterations", timeBudgetMs, completed);
+                    break;
+                }
+                final AsyncApiImportRequest request = new AsyncApiImportRequest();
+                request.setEpToken(encode(WARMUP_TOKEN));
+                request.setAsyncApiSpec(encode(i % 2 == 0 ? jsonSpec : yamlSpec));
+
+                final ResponseEntity<AsyncApiImportResponse> response = importController.executeImport(
+                    request,
+                    WarmupStubServer.STUB_DOMAIN_ID,
+                    null,
+                    "US",
+                    stubServer.getUrl(),
+                    "MAJOR",
+                    true,
+                    i % 3 == 2,
+                    true,
+                    "warmup-" + UUID.randomUUID(),
+                    false,
+                    remainingMs,
+                    null,
+                    WARMUP_TENANT,
+                    null,
+                    false);
+                objectMapper.writeValueAsBytes(response.getBody());
+
+                SolaceCloudApiCalls.validateEpToken(WARMUP_TOKEN, stubServer.getUrl());
+                objectMapper.writeValueAsBytes(
+                    SolaceCloudApiCalls.getAppDomainsFromSolaceCloudApi(WARMUP_TOKEN, stubServer.getUrl()).getBody());
+                completed++;
+            }
+        } catch (Exception exc) {
+            log.warn("JIT warm-up stopped with an error: {}", exc.getMessage());
+        } finally {
+            importLoadMonitor.setWarmupInProgress(false);
+            log.info("JIT warm-up finished; {} iterations in {} ms", completed, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private static String encode(final String value)
+    {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
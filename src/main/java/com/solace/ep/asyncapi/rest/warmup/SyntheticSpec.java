@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generated AsyncApi specs used for JIT warm-up and by tests
+ */
+public class SyntheticSpec {
+
+    /**
+     * AsyncApi 2.X spec with one channel, message, and schema per channel
+     * @param title - info.title of the spec
+     * @param channelCount
+     * @return Spec as a map; serialize as JSON or YAML
+     */
+    public static Map<String, Object> create(final String title, final int channelCount)
+    {
+        final Map<String, Object> channels = new LinkedHashMap<>();
+        final Map<String, Object> messages = new LinkedHashMap<>();
+        final Map<String, Object> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < channelCount; i++) {
+            final String name = "Object" + i;
+            schemas.put(name, Map.of(
+                "type", "object",
+                "properties", Map.of(
+                    "id", Map.of("type", "string"),
+                    "amount", Map.of("type", "number"),
+                    "description", Map.of("type", "string"))));
+            messages.put(name, Map.of(
+                "name", name,
+                "contentType", "application/json",
+                "payload", Map.of("$ref", "#/components/schemas/" + name)));
+            channels.put("acme/synthetic/" + i + "/created", Map.of(
+                "publish", Map.of("message", Map.of("$ref", "#/components/messages/" + name))));
+        }
+        final Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("asyncapi", "2.6.0");
+        spec.put("info", Map.of("title", title, "version", "1.0.0"));
+        spec.put("channels", channels);
+        spec.put("components", Map.of("messages", messages, "schemas", schemas));
+        return spec;
+    }
+}
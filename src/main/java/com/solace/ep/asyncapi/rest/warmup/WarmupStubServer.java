@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stub of the Solace Cloud API used for JIT warm-up and by tests, bound to the
+ * loopback interface on an ephemeral port. GET of an object returns the object, GET of a
+ * collection returns an empty page, and create/update requests echo the request body
+ * with an ID. All IDs issued by the stub start with 'stub'.
+ */
+public class WarmupStubServer implements AutoCloseable {
+
+    public static final String STUB_DOMAIN_ID = "stubdomain";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executor;
+
+    private WarmupStubServer(HttpServer httpServer, ExecutorService executor)
+    {
+        this.httpServer = httpServer;
+        this.executor = executor;
+    }
+
+    /**
+     * Start the stub server
+     * @return
+     * @throws IOException
+     */
+    public static WarmupStubServer start() throws IOException
+    {
+        return start("warmup-stub-", 2);
+    }
+
+    /**
+     * Start the stub server
+     * @param threadNamePrefix - Prefix of the names of the stub server threads
+     * @param threads - Number of stub server threads
+     * @return
+     * @throws IOException
+     */
+    public static WarmupStubServer start(final String threadNamePrefix, final int threads) throws IOException
+    {
+        final AtomicInteger threadCounter = new AtomicInteger(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/", WarmupStubServer::handleRequest);
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        return new WarmupStubServer(httpServer, executor);
+    }
+
+    /**
+     * Base URL of the stub; use as urlOverride
+     * @return
+     */
+    public String getUrl()
+    {
+        return "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort();
+    }
+
+    @Override
+    public void close()
+    {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handleRequest(final HttpExchange exchange) throws IOException
+    {
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath();
+        final String lastSegment = path.substring(path.lastIndexOf('/') + 1);
+
+        Object data;
+        int status = 200;
+        if ("GET".equals(method)) {
+            if (lastSegment.startsWith("stub")) {
+                data = Map.of("id", lastSegment, "name", "stub");
+            } else if (path.endsWith("/token/permissions")) {
+                data = Map.of("permissions", List.of());
+            } else {
+                final Map<String, Object> page = new LinkedHashMap<>();
+                page.put("data", List.of());
+                page.put("meta", Map.of("pagination", Map.of("pageNumber", 1, "count", 0, "pageSize", 100, "totalPages", 0)));
+                writeResponse(exchange, 200, page);
+                return;
+            }
+        } else {
+            Map<String, Object> body = new LinkedHashMap<>();
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                final byte[] bytes = requestBody.readAllBytes();
+                if (bytes.length > 0) {
+                    body.putAll(objectMapper.readValue(bytes, new TypeReference<Map<String, Object>>() {}));
+                }
+            }
+            if ("POST".equals(method)) {
+                body.put("id", "stub" + UUID.randomUUID().toString().replace("-", ""));
+                status = 201;
+            } else if (!body.containsKey("id")) {
+                body.put("id", lastSegment);
+            }
+            data = body;
+        }
+        writeResponse(exchange, status, Map.of("data", data));
+    }
+
+    private static void writeResponse(
+        final HttpExchange exchange,
+        final int status,
+        final Object responseBody
+    ) throws IOException
+    {
+        final byte[] bytes = objectMapper.writeValueAsBytes(responseBody);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
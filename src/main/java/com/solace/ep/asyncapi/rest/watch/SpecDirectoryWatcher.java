@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.watch;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.solace.ep.asyncapi.rest.controller.AsyncApiImportController;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportRequest;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+import com.solace.ep.asyncapi.rest.models.WatchStatusMessage;
+import com.solace.ep.asyncapi.rest.models.WatchedFileStatus;
+import com.solace.ep.asyncapi.rest.utils.HashUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Directory-watch mode. Watches the directories configured under importer.watch.mappings
+ * and imports spec files that are created or changed. Changes to a file are debounced,
+ * and a file is imported only if its content differs from the last successful import.
+ * Imports are sent through {@link AsyncApiImportController#executeImport}, the same path
+ * as HTTP import requests, with incremental import enabled and at most
+ * importer.watch.max-parallel-imports at a time.
+ */
+@Slf4j
+@Component
+public class SpecDirectoryWatcher {
+
+    private static final int MAX_SUMMARY_LENGTH = 500;
+
+    private static class WatchedFile {
+        final Path path;
+        final WatchProperties.Mapping mapping;
+        final WatchedFileStatus status = new WatchedFileStatus();
+        ScheduledFuture<?> debounce;
+        boolean running = false;
+        boolean rerun = false;
+        String lastImportedHash;
+
+        WatchedFile(Path path, WatchProperties.Mapping mapping)
+        {
+            this.path = path;
+            this.mapping = mapping;
+            status.setPath(path.toString());
+            status.setAppDomain(mapping.getAppDomainId() != null ? mapping.getAppDomainId() : mapping.getAppDomainName());
+        }
+    }
+
+    private final WatchProperties properties;
+
+    private final AsyncApiImportController importController;
+
+    private final Map<Path, WatchProperties.Mapping> watchedDirectories = new HashMap<>();
+
+    private final Map<Path, WatchedFile> watchedFiles = new HashMap<>();
+
+    private final AtomicInteger workerCounter = new AtomicInteger(0);
+
+    private final AtomicLong importCounter = new AtomicLong(0);
+
+    private WatchService watchService;
+
+    private ScheduledExecutorService debounceExecutor;
+
+    private ThreadPoolExecutor importExecutor;
+
+    public SpecDirectoryWatcher(
+        WatchProperties properties,
+        AsyncApiImportController importController
+    )
+    {
+        this.properties = properties;
+        this.importController = importController;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event)
+    {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException ioExc) {
+            log.error("Directory watch could not be started: {}", ioExc.getMessage());
+            return;
+        }
+        debounceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spec-watch-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final int maxParallel = Math.max(1, properties.getMaxParallelImports());
+        importExecutor = new ThreadPoolExecutor(maxParallel, maxParallel, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> new Thread(runnable, "spec-watch-import-" + workerCounter.incrementAndGet()));
+
+        for (WatchProperties.Mapping mapping : properties.getMappings()) {
+            registerDirectory(mapping);
+        }
+        if (watchedDirectories.isEmpty()) {
+            log.warn("Directory watch is enabled but no valid directories are configured");
+            return;
+        }
+
+        final Thread watchThread = new Thread(this::watchLoop, "spec-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void registerDirectory(final WatchProperties.Mapping mapping)
+    {
+        if (mapping.getDirectory() == null || mapping.getEpToken() == null || mapping.getEpToken().isBlank() ||
+                (mapping.getAppDomainId() == null && mapping.getAppDomainName() == null)) {
+            log.error("Directory watch mapping for [{}] must specify directory, epToken, and appDomainId or appDomainName",
+                        mapping.getDirectory());
+            return;
+        }
+        final Path directory = Path.of(mapping.getDirectory()).toAbsolutePath().normalize();
+        if (!Files.isDirectory(directory)) {
+            log.error("Watched directory [{}] does not exist", directory);
+            return;
+        }
+        try {
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException ioExc) {
+            log.error("Watched directory [{}] could not be registered: {}", directory, ioExc.getMessage());
+            return;
+        }
+        synchronized (this) {
+            watchedDirectories.put(directory, mapping);
+        }
+        log.info("Watching directory [{}] for spec changes", directory);
+        if (properties.isImportOnStart()) {
+            scanDirectory(directory, mapping);
+        }
+    }
+
+    private void scanDirectory(final Path directory, final WatchProperties.Mapping mapping)
+    {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (isSpecFile(file)) {
+                    fileChanged(file, mapping);
+                }
+            }
+        } catch (IOException ioExc) {
+            log.error("Watched directory [{}] could not be read: {}", directory, ioExc.getMessage());
+        }
+    }
+
+    private void watchLoop()
+    {
+        while (true) {
+            final WatchKey watchKey;
+            try {
+                watchKey = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException exc) {
+                return;
+            }
+            final Path directory = (Path) watchKey.watchable();
+            final WatchProperties.Mapping mapping;
+            synchronized (this) {
+                mapping = watchedDirectories.get(directory);
+            }
+            for (WatchEvent<?> event : watchKey.pollEvents()) {
+                if (mapping == null) {
+                    continue;
+                }
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    log.warn("Change events lost for watched directory [{}]; Rescanning", directory);
+                    scanDirectory(directory, mapping);
+                    continue;
+                }
+                final Path file = directory.resolve((Path) event.context());
+                if (!isSpecFile(file)) {
+                    continue;
+                }
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                    fileDeleted(file);
+                } else {
+                    fileChanged(file, mapping);
+                }
+            }
+            if (!watchKey.reset()) {
+                log.warn("Watched directory [{}] is no longer accessible", directory);
+                synchronized (this) {
+                    watchedDirectories.remove(directory);
+                }
+            }
+        }
+    }
+
+    private boolean isSpecFile(final Path file)
+    {
+        final String fileName = file.getFileName().toString();
+        final int extensionPosition = fileName.lastIndexOf('.');
+        if (extensionPosition < 0 || fileName.startsWith(".")) {
+            return false;
+        }
+        return properties.getFileExtensions().contains(fileName.substring(extensionPosition + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private synchronized void fileChanged(final Path file, final WatchProperties.Mapping mapping)
+    {
+        final WatchedFile watchedFile = watchedFiles.computeIfAbsent(file, path -> new WatchedFile(path, mapping));
+        watchedFile.status.setStatus(WatchedFileStatus.Status.PENDING);
+        watchedFile.status.setLastChanged(System.currentTimeMillis());
+        if (watchedFile.debounce != null) {
+            watchedFile.debounce.cancel(false);
+        }
+        watchedFile.debounce = debounceExecutor.schedule(() -> submitImport(watchedFile), properties.getDebounceMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void fileDeleted(final Path file)
+    {
+        final WatchedFile watchedFile = watchedFiles.get(file);
+        if (watchedFile == null) {
+            return;
+        }
+        if (watchedFile.debounce != null) {
+            watchedFile.debounce.cancel(false);
+        }
+        watchedFile.status.setStatus(WatchedFileStatus.Status.DELETED);
+        watchedFile.status.setLastChanged(System.currentTimeMillis());
+        watchedFile.lastImportedHash = null;
+    }
+
+    private synchronized void submitImport(final WatchedFile watchedFile)
+    {
+        watchedFile.debounce = null;
+        if (watchedFile.status.getStatus() == WatchedFileStatus.Status.DELETED) {
+            return;
+        }
+        if (watchedFile.running) {
+            watchedFile.rerun = true;
+            return;
+        }
+        watchedFile.running = true;
+        importExecutor.execute(() -> runImport(watchedFile));
+    }
+
+    private void runImport(final WatchedFile watchedFile)
+    {
+        try {
+            final byte[] content;
+            try {
+                content = Files.readAllBytes(watchedFile.path);
+            } catch (NoSuchFileException noFileExc) {
+                fileDeleted(watchedFile.path);
+                return;
+            }
+            final String specHash = HashUtils.sha256Hex(content);
+            synchronized (this) {
+                if (specHash.equals(watchedFile.lastImportedHash)) {
+                    watchedFile.status.setStatus(WatchedFileStatus.Status.UNCHANGED);
+                    return;
+                }
+                watchedFile.status.setStatus(WatchedFileStatus.Status.IMPORTING);
+                watchedFile.status.setSpecHash(specHash);
+            }
+
+            final WatchProperties.Mapping mapping = watchedFile.mapping;
+            final String importId = importId(watchedFile.path);
+            final AsyncApiImportRequest request = new AsyncApiImportRequest();
+            request.setEpToken(Base64.getEncoder().encodeToString(mapping.getEpToken().getBytes(StandardCharsets.UTF_8)));
+            request.setAsyncApiSpec(Base64.getEncoder().encodeToString(content));
+
+            log.info("Importing changed spec file [{}]; Import ID: {}", watchedFile.path, importId);
+            final ResponseEntity<AsyncApiImportResponse> response = importController.executeImport(
+                request,
+                mapping.getAppDomainId(),
+                mapping.getAppDomainName(),
+                mapping.getUrlRegion(),
+                mapping.getUrlOverride(),
+                mapping.getNewVersionStrategy(),
+                mapping.isImportApplication(),
+                mapping.isImportEventApi(),
+                mapping.isCascadeUpdate(),
+                importId,
+                true,
+                null,
+                null,
+                mapping.getTenantId(),
+                watchedFile.path.toString(),
+                true);
+
+            final boolean imported = response.getStatusCode().is2xxSuccessful();
+            if (!imported) {
+                log.warn("Import of spec file [{}] failed; HTTP Status: {}", watchedFile.path, response.getStatusCode().value());
+            }
+            synchronized (this) {
+                watchedFile.status.setStatus(imported ? WatchedFileStatus.Status.IMPORTED : WatchedFileStatus.Status.FAILED);
+                watchedFile.status.setImportId(importId);
+                watchedFile.status.setHttpStatus(response.getStatusCode().value());
+                watchedFile.status.setLastImported(System.currentTimeMillis());
+                watchedFile.status.setSummary(response.getBody() == null ? null : summarize(response.getBody().getMsgs()));
+                if (imported) {
+                    watchedFile.lastImportedHash = specHash;
+                }
+            }
+        } catch (Exception exc) {
+            log.error("Import of spec file [{}] failed: {}", watchedFile.path, exc.getMessage());
+            synchronized (this) {
+                watchedFile.status.setStatus(WatchedFileStatus.Status.FAILED);
+                watchedFile.status.setSummary(abbreviate(exc.getMessage() == null ? exc.getClass().getSimpleName() : exc.getMessage()));
+            }
+        } finally {
+            synchronized (this) {
+                watchedFile.running = false;
+                if (watchedFile.rerun) {
+                    watchedFile.rerun = false;
+                    submitImport(watchedFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Import ID of an import attempt of a watched file: a hash of the path, the start time,
+     * and a sequence number. Each attempt gets a new ID, as a completed import recorded in the
+     * journal under the same ID would be returned instead of importing, e.g. when a file is
+     * changed back to content imported earlier.
+     * @param path
+     * @return
+     */
+    private String importId(final Path path)
+    {
+        return "watch-" + HashUtils.sha256Hex(path.toString()).substring(0, 16) +
+                    "-" + Long.toString(System.currentTimeMillis(), 36) + "-" + importCounter.incrementAndGet();
+    }
+
+    /**
+     * Summarize the messages of an import as its last message; the full messages
+     * are returned to the caller and recorded in the import journal, not kept here
+     * @param msgs
+     * @return
+     */
+    private static String summarize(final List<String> msgs)
+    {
+        return msgs.isEmpty() ? null : abbreviate(msgs.get(msgs.size() - 1));
+    }
+
+    private static String abbreviate(final String msg)
+    {
+        final String trimmed = msg.strip();
+        return trimmed.length() <= MAX_SUMMARY_LENGTH ? trimmed : trimmed.substring(0, MAX_SUMMARY_LENGTH - 3) + "...";
+    }
+
+    /**
+     * Get the status of watched directories and files
+     * @return
+     */
+    public synchronized WatchStatusMessage getStatus()
+    {
+        final WatchStatusMessage status = new WatchStatusMessage();
+        status.setEnabled(properties.isEnabled());
+        watchedDirectories.keySet().forEach(directory -> status.getDirectories().add(directory.toString()));
+        final List<WatchedFileStatus> files = new ArrayList<>();
+        for (WatchedFile watchedFile : watchedFiles.values()) {
+            final WatchedFileStatus fileStatus = new WatchedFileStatus();
+            fileStatus.setPath(watchedFile.status.getPath());
+            fileStatus.setAppDomain(watchedFile.status.getAppDomain());
+            fileStatus.setStatus(watchedFile.status.getStatus());
+            fileStatus.setSpecHash(watchedFile.status.getSpecHash());
+            fileStatus.setImportId(watchedFile.status.getImportId());
+            fileStatus.setHttpStatus(watchedFile.status.getHttpStatus());
+            fileStatus.setLastChanged(watchedFile.status.getLastChanged());
+            fileStatus.setLastImported(watchedFile.status.getLastImported());
+            fileStatus.setSummary(watchedFile.status.getSummary());
+            files.add(fileStatus);
+        }
+        files.sort((a, b) -> a.getPath().compareTo(b.getPath()));
+        status.getFiles().addAll(files);
+        return status;
+    }
+
+    @PreDestroy
+    void shutdown()
+    {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ioExc) {
+                log.debug("Error closing watch service: {}", ioExc.getMessage());
+            }
+        }
+        if (debounceExecutor != null) {
+            debounceExecutor.shutdownNow();
+        }
+        if (importExecutor != null) {
+            importExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.watch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Configuration of directory-watch mode, bound from importer.watch.* properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "importer.watch")
+public class WatchProperties {
+
+    private boolean enabled = false;
+
+    private long debounceMs = 2000;                 // Quiet period after the last change to a file before it is imported
+
+    private int maxParallelImports = 2;
+
+    private boolean importOnStart = true;           // Import files present in the directories at startup
+
+    private List<String> fileExtensions = new ArrayList<>(List.of("json", "yaml", "yml"));
+
+    private List<Mapping> mappings = new ArrayList<>();
+
+    /**
+     * Maps a directory to the application domain and options used to import its files
+     */
+    @Data
+    public static class Mapping {
+
+        private String directory;
+
+        private String appDomainId;
+
+        private String appDomainName;
+
+        private String epToken;                     // Plain text token; use a placeholder such as ${EP_TOKEN}
+
+        private String urlRegion = "US";
+
+        private String urlOverride;
+
+        private String newVersionStrategy = "MAJOR";
+
+        private boolean importApplication = true;
+
+        private boolean importEventApi = false;
+
+        private boolean cascadeUpdate = true;
+
+        private String tenantId;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solace.ep.asyncapi.rest.warmup.SyntheticSpec;
+import com.solace.ep.asyncapi.rest.warmup.WarmupStubServer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-request allocation regression tests. Each test runs /importer end to end against the
+ * in-process stub of the Solace Cloud API (urlOverride) with specs of increasing size, and
+ * asserts budgets for:
+ * <ul>
+ * <li>Bytes allocated by all service threads while processing one request, measured
+ *     with thread allocation counters</li>
+ * <li>Heap retained per request, measured as the growth of the used heap over several
+ *     requests, each end of the range taken once GC has settled</li>
+ * </ul>
+ * Budgets can be overridden with system properties 'allocation.budget.base-bytes',
+ * 'allocation.budget.per-channel-bytes', and 'allocation.budget.retained-bytes'.
+ * <p>
+ * Run with: mvn test -Pallocation-tests
+ */
+@Slf4j
+@Tag("allocation")
+@SpringBootTest(properties = {
+    "importer.journal.directory=${java.io.tmpdir}/asyncapi-importer-allocation-tests/journal",
+    "importer.incremental.directory=${java.io.tmpdir}/asyncapi-importer-allocation-tests/fingerprints"
+})
+@AutoConfigureMockMvc
+class ImportAllocationTests {
+
+    private static final String STUB_THREAD_PREFIX = "allocation-stub-";
+
+    // Budgets should be the values measured on the reference JVM plus about 25% headroom;
+    // calibrate from the logged ALLOCATION lines, and again when the import path changes intentionally.
+    // The defaults are estimates: no baseline run has been recorded yet (see README)
+    private static final long BASE_BUDGET_BYTES = Long.getLong("allocation.budget.base-bytes", 24L * 1024 * 1024);
+
+    private static final long PER_CHANNEL_BUDGET_BYTES = Long.getLong("allocation.budget.per-channel-bytes", 192L * 1024);
+
+    private static final long RETAINED_BUDGET_BYTES = Long.getLong("allocation.budget.retained-bytes", 2L * 1024 * 1024);
+
+    // Requests per retention measurement; heap growth is averaged over these
+    private static final int RETENTION_REQUESTS = 5;
+
+    private static final int GC_SETTLE_ATTEMPTS = 10;
+
+    private static final long GC_SETTLE_PAUSE_MS = 50;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static WarmupStubServer stubServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void startStub() throws IOException
+    {
+        stubServer = WarmupStubServer.start(STUB_THREAD_PREFIX, 4);
+    }
+
+    @AfterAll
+    static void stopStub()
+    {
+        stubServer.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 50, 200 })
+    void importAllocationWithinBudget(int channelCount) throws Exception
+    {
+        final String requestBody = importRequestBody(channelCount);
+
+        // Warm up so that class loading and one-time initialization are not measured
+        performImport(requestBody);
+
+        // Allocation: thread allocation counters across one request
+        final Map<Long, Long> allocatedBefore = allocatedBytesByThread();
+        final MvcResult result = performImport(requestBody);
+        final long allocatedBytes = allocatedBytesSince(allocatedBefore);
+        assertCompleted(result);
+
+        // Retention: growth of the settled heap across several requests
+        final long heapBefore = settledHeapUsed();
+        for (int i = 0; i < RETENTION_REQUESTS; i++) {
+            assertCompleted(performImport(requestBody));
+        }
+        final long retainedBytes = Math.max(0, settledHeapUsed() - heapBefore) / RETENTION_REQUESTS;
+
+        final long allocationBudget = BASE_BUDGET_BYTES + PER_CHANNEL_BUDGET_BYTES * channelCount;
+        log.info("ALLOCATION channels={} allocatedBytes={} budget={} retainedBytesPerRequest={} budget={}",
+                    channelCount, allocatedBytes, allocationBudget, retainedBytes, RETAINED_BUDGET_BYTES);
+        assertTrue(allocatedBytes <= allocationBudget,
+                    "Allocated " + allocatedBytes + " bytes for " + channelCount + " channels; budget " + allocationBudget);
+        assertTrue(retainedBytes <= RETAINED_BUDGET_BYTES,
+                    "Retained " + retainedBytes + " bytes per request for " + channelCount + " channels; budget " + RETAINED_BUDGET_BYTES);
+    }
+
+    /*
+     * An import that fails early allocates little; only measure completed imports
+     */
+    private static void assertCompleted(final MvcResult result) throws IOException
+    {
+        final String responseBody = result.getResponse().getContentAsString();
+        assertEquals(200, result.getResponse().getStatus(), "Import did not complete: " + responseBody);
+        assertTrue(responseBody.contains("ASYNCAPI SPEC IMPORT -- COMPLETE"), "Import did not complete: " + responseBody);
+    }
+
+    /*
+     * Used heap once GC has settled: GC is requested until the used heap stops falling,
+     * and the lowest value seen is returned. A single System.gc() is a hint and may leave
+     * garbage in the heap, which would be counted as retained.
+     */
+    private static long settledHeapUsed() throws InterruptedException
+    {
+        long lowest = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < GC_SETTLE_ATTEMPTS; attempt++) {
+            System.gc();
+            Thread.sleep(GC_SETTLE_PAUSE_MS);
+            final long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (used >= lowest) {
+                break;
+            }
+            lowest = used;
+        }
+        return lowest;
+    }
+
+    private MvcResult performImport(final String requestBody) throws Exception
+    {
+        final MvcResult asyncResult = mockMvc.perform(post("/importer")
+                    .param("appDomainId", WarmupStubServer.STUB_DOMAIN_ID)
+                    .param("urlOverride", stubServer.getUrl())
+                    .param("importId", "allocation-" + UUID.randomUUID())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(asyncResult)).andReturn();
+    }
+
+    /*
+     * Allocation counters of all live threads except the stub server threads
+     */
+    private static Map<Long, Long> allocatedBytesByThread()
+    {
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long[] threadIds = threadMXBean.getAllThreadIds();
+        final ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+        final long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+        final Map<Long, Long> allocatedByThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (threadInfos[i] != null && !threadInfos[i].getThreadName().startsWith(STUB_THREAD_PREFIX) && allocatedBytes[i] >= 0) {
+                allocatedByThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocatedByThread;
+    }
+
+    private static long allocatedBytesSince(final Map<Long, Long> allocatedBefore)
+    {
+        long total = 0;
+        for (Map.Entry<Long, Long> thread : allocatedBytesByThread().entrySet()) {
+            total += thread.getValue() - allocatedBefore.getOrDefault(thread.getKey(), 0L);
+        }
+        return total;
+    }
+
+    /*
+     * Import request with a generated spec of one channel, message, and schema per channel
+     */
+    private static String importRequestBody(final int channelCount) throws IOException
+    {
+        final Map<String, Object> spec = SyntheticSpec.create("Allocation Test " + channelCount, channelCount);
+        final Map<String, String> request = Map.of(
+            "epToken", Base64.getEncoder().encodeToString("allocation-test-token".getBytes(StandardCharsets.UTF_8)),
+            "asyncApiSpec", Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(spec)));
+        return objectMapper.writeValueAsString(request);
+    }
+}
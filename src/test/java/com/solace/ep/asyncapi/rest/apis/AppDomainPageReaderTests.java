@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.apis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.AppDomainData;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.AppDomainPage;
+import com.solace.ep.asyncapi.rest.apis.SolaceCloudReactiveApiCalls.Pagination;
+
+class AppDomainPageReaderTests {
+
+    @Test
+    void readsIdsNamesAndPagination() throws IOException
+    {
+        final AppDomainPage page = read(
+            "{\"data\":[{\"id\":\"d1\",\"name\":\"Alpha\"},{\"id\":\"d2\",\"name\":\"Bravo\"}]," +
+            "\"meta\":{\"pagination\":{\"pageNumber\":1,\"count\":45,\"pageSize\":20,\"nextPage\":2,\"totalPages\":3}}}");
+
+        assertEquals(List.of(new AppDomainData("d1", "Alpha"), new AppDomainData("d2", "Bravo")), page.data());
+        assertEquals(new Pagination(1, 45, 20, 2, 3), page.meta().pagination());
+        assertTrue(page.nextPageAvailable());
+        assertEquals(3, page.totalPages());
+    }
+
+    @Test
+    void skipsUnknownFields() throws IOException
+    {
+        final AppDomainPage page = read(
+            "{\"kind\":\"list\",\"data\":[{\"createdTime\":\"2024-01-01T00:00:00Z\",\"id\":\"d1\",\"stats\":7," +
+            "\"topicDomainEnforcementEnabled\":true,\"name\":\"Alpha\",\"description\":\"x\"}]," +
+            "\"meta\":{\"requestId\":\"r1\",\"pagination\":{\"pageNumber\":1,\"extra\":\"x\",\"count\":1}},\"trailer\":[1,2,3]}");
+
+        assertEquals(List.of(new AppDomainData("d1", "Alpha")), page.data());
+        assertEquals(new Pagination(1, 1, null, null, null), page.meta().pagination());
+    }
+
+    @Test
+    void skipsNestedObjectsAndArrays() throws IOException
+    {
+        // Nested 'id' and 'name' fields must not replace those of the application domain
+        final AppDomainPage page = read(
+            "{\"data\":[{\"id\":\"d1\",\"customAttributes\":[{\"id\":\"a1\",\"name\":\"attribute\",\"values\":[{\"name\":\"v\"}]}]," +
+            "\"owner\":{\"id\":\"u1\",\"name\":\"Owner\",\"profile\":{\"name\":\"deep\"}},\"name\":\"Alpha\"}," +
+            "[\"not\",\"an\",\"object\"],\"scalar\"]," +
+            "\"meta\":{\"links\":{\"pagination\":{\"pageNumber\":9}},\"pagination\":{\"pageNumber\":1,\"nested\":{\"count\":5}}}}");
+
+        assertEquals(List.of(new AppDomainData("d1", "Alpha")), page.data());
+        assertEquals(new Pagination(1, null, null, null, null), page.meta().pagination());
+    }
+
+    @Test
+    void readsNullFieldsAsNull() throws IOException
+    {
+        final AppDomainPage page = read(
+            "{\"data\":[{\"id\":\"d1\",\"name\":null},{\"id\":null,\"name\":\"Bravo\"}]," +
+            "\"meta\":{\"pagination\":{\"pageNumber\":1,\"count\":2,\"pageSize\":20,\"nextPage\":null,\"totalPages\":null}}}");
+
+        assertEquals(List.of(new AppDomainData("d1", null), new AppDomainData(null, "Bravo")), page.data());
+        assertNull(page.meta().pagination().nextPage());
+        assertFalse(page.nextPageAvailable());
+        assertEquals(1, page.totalPages());
+    }
+
+    @Test
+    void nullDataAndMeta() throws IOException
+    {
+        final AppDomainPage page = read("{\"data\":null,\"meta\":null}");
+
+        assertTrue(page.data().isEmpty());
+        assertNull(page.meta());
+        assertTrue(page.dataOrEmpty().isEmpty());
+        assertFalse(page.nextPageAvailable());
+        assertEquals(1, page.totalPages());
+    }
+
+    @Test
+    void lastPageHasNoNextPage() throws IOException
+    {
+        final AppDomainPage page = read(
+            "{\"data\":[{\"id\":\"d41\",\"name\":\"Zulu\"}]," +
+            "\"meta\":{\"pagination\":{\"pageNumber\":3,\"count\":41,\"pageSize\":20,\"totalPages\":3}}}");
+
+        assertEquals(3, page.meta().pagination().pageNumber());
+        assertFalse(page.nextPageAvailable());
+        assertEquals(1, page.totalPages());
+    }
+
+    @Test
+    void nonObjectResponseIsRejected()
+    {
+        assertThrows(JsonParseException.class, () -> read("[{\"id\":\"d1\",\"name\":\"Alpha\"}]"));
+    }
+
+    private static AppDomainPage read(final String json) throws IOException
+    {
+        return AppDomainPageReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
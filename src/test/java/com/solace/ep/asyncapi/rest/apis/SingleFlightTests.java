@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.apis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightTests {
+
+    private static final Duration TEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private ExecutorService executor;
+
+    // Unique per test, so that tests do not share in-flight calls
+    private String url;
+
+    @BeforeEach
+    void setUp()
+    {
+        executor = Executors.newCachedThreadPool();
+        url = "https://" + UUID.randomUUID() + ".example.com";
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsAreCoalesced() throws Exception
+    {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Object result = new Object();
+        final Supplier<Object> call = () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        };
+
+        final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                    () -> SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "token", url, call), executor);
+        assertTrue(started.await(TEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        final Thread[] joinerThread = new Thread[1];
+        final CompletableFuture<Object> joiner = CompletableFuture.supplyAsync(() -> {
+            joinerThread[0] = Thread.currentThread();
+            return SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "token", url, call);
+        }, executor);
+        awaitWaiting(joinerThread);
+        release.countDown();
+
+        assertSame(result, leader.get(TEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertSame(result, joiner.get(TEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced()
+    {
+        final AtomicInteger calls = new AtomicInteger(0);
+        SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "token", url, calls::incrementAndGet);
+        SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, "token", url, calls::incrementAndGet);
+        SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "other-token", url, calls::incrementAndGet);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void failureIsPropagatedToWaitingCallers() throws Exception
+    {
+        assertFailurePropagated(new IllegalStateException("upstream failed"));
+    }
+
+    @Test
+    void errorIsPropagatedToWaitingCallers() throws Exception
+    {
+        assertFailurePropagated(new StackOverflowError("upstream failed"));
+    }
+
+    @Test
+    void keyIsReleasedAfterFailure()
+    {
+        assertThrows(IllegalStateException.class, () -> SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "token", url, () -> {
+            throw new IllegalStateException("upstream failed");
+        }));
+        assertEquals("ok", SingleFlight.execute(SingleFlight.OP_APP_DOMAINS, "token", url, () -> "ok"));
+    }
+
+    @Test
+    void monoCallsAreCoalesced()
+    {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Sinks.One<String> upstream = Sinks.one();
+        final Supplier<Mono<String>> call = () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        final CompletableFuture<String> first = SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, call).toFuture();
+        final CompletableFuture<String> second = SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, call).toFuture();
+        upstream.tryEmitValue("domains");
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            assertEquals("domains", first.get());
+            assertEquals("domains", second.get());
+        });
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void monoFailureIsPropagatedAndKeyReleased()
+    {
+        final Sinks.One<String> upstream = Sinks.one();
+        final Mono<String> first = SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, upstream::asMono);
+        final Mono<String> second = SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, upstream::asMono);
+        final CompletableFuture<String> firstResult = first.toFuture();
+        final CompletableFuture<String> secondResult = second.toFuture();
+        upstream.tryEmitError(new IllegalStateException("upstream failed"));
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            final ExecutionException firstExc = assertThrows(ExecutionException.class, firstResult::get);
+            assertTrue(firstExc.getCause() instanceof IllegalStateException);
+            final ExecutionException secondExc = assertThrows(ExecutionException.class, secondResult::get);
+            assertTrue(secondExc.getCause() instanceof IllegalStateException);
+        });
+        assertEquals("ok", SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, () -> Mono.just("ok")).block(TEST_TIMEOUT));
+    }
+
+    @Test
+    void monoSynchronousThrowReleasesKey()
+    {
+        final Mono<String> failed = SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, () -> {
+            throw new IllegalStateException("could not build request");
+        });
+        assertThrows(IllegalStateException.class, () -> failed.block(TEST_TIMEOUT));
+        assertEquals("ok", SingleFlight.executeMono(SingleFlight.OP_APP_DOMAINS, "token", url, () -> Mono.just("ok")).block(TEST_TIMEOUT));
+    }
+
+    private void assertFailurePropagated(final Throwable failure) throws Exception
+    {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Supplier<Object> call = () -> {
+            started.countDown();
+            await(release);
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) failure;
+        };
+
+        final CompletableFuture<Object> leader = CompletableFuture.supplyAsync(
+                    () -> SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, "token", url, call), executor);
+        assertTrue(started.await(TEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        final Thread[] joinerThread = new Thread[1];
+        final CompletableFuture<Object> joiner = CompletableFuture.supplyAsync(() -> {
+            joinerThread[0] = Thread.currentThread();
+            return SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, "token", url, call);
+        }, executor);
+        awaitWaiting(joinerThread);
+        release.countDown();
+
+        assertTimeoutPreemptively(TEST_TIMEOUT, () -> {
+            final ExecutionException leaderExc = assertThrows(ExecutionException.class, leader::get);
+            assertSame(failure, leaderExc.getCause());
+            final ExecutionException joinerExc = assertThrows(ExecutionException.class, joiner::get);
+            assertSame(failure, joinerExc.getCause());
+        });
+        assertEquals("ok", SingleFlight.execute(SingleFlight.OP_VALIDATE_TOKEN, "token", url, () -> "ok"));
+    }
+
+    /*
+     * Wait until the joining thread blocks on the in-flight call
+     */
+    private static void awaitWaiting(final Thread[] thread) throws InterruptedException
+    {
+        final long deadline = System.currentTimeMillis() + TEST_TIMEOUT.toMillis();
+        while (thread[0] == null || thread[0].getState() != Thread.State.WAITING) {
+            assertTrue(System.currentTimeMillis() < deadline, "Caller did not join the in-flight call");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(final CountDownLatch latch)
+    {
+        try {
+            latch.await();
+        } catch (InterruptedException interruptedExc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
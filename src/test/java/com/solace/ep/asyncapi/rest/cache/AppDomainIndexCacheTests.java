@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpServer;
+
+class AppDomainIndexCacheTests {
+
+    private static final String EP_TOKEN = "test-token";
+
+    private final List<String> domainNames = new CopyOnWriteArrayList<>(List.of("alpha"));
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int status = 200;
+
+    private HttpServer httpServer;
+
+    private String url;
+
+    @BeforeEach
+    void startStub() throws IOException
+    {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            final String data = domainNames.stream()
+                        .map(name -> "{\"id\":\"id-" + name + "\",\"name\":\"" + name + "\"}")
+                        .collect(Collectors.joining(","));
+            final byte[] bytes = ("{\"data\":[" + data + "],\"meta\":{\"pagination\":{\"pageNumber\":1,\"count\":" +
+                        domainNames.size() + ",\"pageSize\":100,\"totalPages\":1}}}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        httpServer.start();
+        url = "http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub()
+    {
+        httpServer.stop(0);
+    }
+
+    @Test
+    void missWithinReloadIntervalDoesNotReload()
+    {
+        final AppDomainIndexCache cache = cache(60, 0);
+        assertEquals("id-alpha", cache.resolveAppDomainId(EP_TOKEN, url, "alpha"));
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "missing"));
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "missing"));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void missReloadsToFindNewDomain()
+    {
+        final AppDomainIndexCache cache = cache(0, 60);
+        assertEquals("id-alpha", cache.resolveAppDomainId(EP_TOKEN, url, "alpha"));
+        domainNames.add("bravo");
+        assertEquals("id-bravo", cache.resolveAppDomainId(EP_TOKEN, url, "bravo"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void nameMissingAfterReloadIsNotLookedUpAgain()
+    {
+        final AppDomainIndexCache cache = cache(0, 60);
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "missing"));
+        assertEquals(2, requests.get());
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "missing"));
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "missing"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void failedLoadIsNotRetriedBySameCall()
+    {
+        status = 500;
+        final AppDomainIndexCache cache = cache(0, 0);
+        assertNull(cache.resolveAppDomainId(EP_TOKEN, url, "alpha"));
+        assertEquals(1, requests.get());
+
+        // A later call loads the index again
+        status = 200;
+        assertEquals("id-alpha", cache.resolveAppDomainId(EP_TOKEN, url, "alpha"));
+        assertEquals(2, requests.get());
+    }
+
+    private static AppDomainIndexCache cache(final long reloadIntervalSeconds, final long negativeTtlSeconds)
+    {
+        final AppDomainIndexCache cache = new AppDomainIndexCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "loadTimeoutSeconds", 10L);
+        ReflectionTestUtils.setField(cache, "reloadIntervalSeconds", reloadIntervalSeconds);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", negativeTtlSeconds);
+        return cache;
+    }
+}
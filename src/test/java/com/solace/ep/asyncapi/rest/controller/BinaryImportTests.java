@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportBinaryRequest;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportResponse;
+import com.solace.ep.asyncapi.rest.warmup.WarmupStubServer;
+
+/**
+ * Round trips of /importer requests and responses in CBOR and Smile, run end to end
+ * against the in-process stub of the Solace Cloud API (urlOverride)
+ */
+@SpringBootTest(properties = {
+    "importer.journal.directory=${java.io.tmpdir}/asyncapi-importer-binary-tests/journal",
+    "importer.incremental.directory=${java.io.tmpdir}/asyncapi-importer-binary-tests/fingerprints"
+})
+@AutoConfigureMockMvc
+class BinaryImportTests {
+
+    private static final String SPEC = "{\"asyncapi\":\"2.6.0\","
+                + "\"info\":{\"title\":\"Binary Test\",\"version\":\"1.0.0\"},"
+                + "\"channels\":{\"acme/binary/created\":{\"publish\":{\"message\":{\"$ref\":\"#/components/messages/Created\"}}}},"
+                + "\"components\":{"
+                + "\"messages\":{\"Created\":{\"name\":\"Created\",\"contentType\":\"application/json\",\"payload\":{\"$ref\":\"#/components/schemas/Created\"}}},"
+                + "\"schemas\":{\"Created\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"string\"}}}}}}";
+
+    private static WarmupStubServer stubServer;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void startStub() throws IOException
+    {
+        stubServer = WarmupStubServer.start();
+    }
+
+    @AfterAll
+    static void stopStub()
+    {
+        stubServer.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_CBOR_VALUE, AsyncApiImportController.APPLICATION_SMILE_VALUE })
+    void importRoundTrip(String mediaType) throws Exception
+    {
+        final String importId = "binary-" + UUID.randomUUID();
+        final MvcResult result = performImport(mediaType, importId, request("binary-test-token", SPEC));
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertTrue(MediaType.parseMediaType(result.getResponse().getContentType()).isCompatibleWith(MediaType.parseMediaType(mediaType)));
+        assertEquals(importId, result.getResponse().getHeader(AsyncApiImportController.IMPORT_ID_HEADER));
+        final AsyncApiImportResponse response = readResponse(mediaType, result);
+        assertTrue(response.getMsgs().stream().anyMatch(msg -> msg.contains("ASYNCAPI SPEC IMPORT -- COMPLETE")),
+                    "Import did not complete: " + response.getMsgs());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_CBOR_VALUE, AsyncApiImportController.APPLICATION_SMILE_VALUE })
+    void missingTokenIsBadRequest(String mediaType) throws Exception
+    {
+        final MvcResult result = performImport(mediaType, "binary-" + UUID.randomUUID(), request(null, SPEC));
+
+        assertEquals(400, result.getResponse().getStatus());
+        final AsyncApiImportResponse response = readResponse(mediaType, result);
+        assertTrue(response.getMsgs().stream().anyMatch(msg -> msg.contains("EP Token must be present")), response.getMsgs().toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_CBOR_VALUE, AsyncApiImportController.APPLICATION_SMILE_VALUE })
+    void missingSpecIsBadRequest(String mediaType) throws Exception
+    {
+        final MvcResult result = performImport(mediaType, "binary-" + UUID.randomUUID(), request("binary-test-token", null));
+
+        assertEquals(400, result.getResponse().getStatus());
+        final AsyncApiImportResponse response = readResponse(mediaType, result);
+        assertTrue(response.getMsgs().stream().anyMatch(msg -> msg.contains("AsyncApi spec must be present")), response.getMsgs().toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_CBOR_VALUE, AsyncApiImportController.APPLICATION_SMILE_VALUE })
+    void emptySpecIsBadRequest(String mediaType) throws Exception
+    {
+        final MvcResult result = performImport(mediaType, "binary-" + UUID.randomUUID(), request("binary-test-token", ""));
+
+        assertEquals(400, result.getResponse().getStatus());
+    }
+
+    private MvcResult performImport(
+        final String mediaType,
+        final String importId,
+        final AsyncApiImportBinaryRequest request
+    ) throws Exception
+    {
+        final MvcResult asyncResult = mockMvc.perform(post("/importer")
+                    .param("appDomainId", WarmupStubServer.STUB_DOMAIN_ID)
+                    .param("urlOverride", stubServer.getUrl())
+                    .param("importId", importId)
+                    .contentType(mediaType)
+                    .accept(mediaType)
+                    .content(mapperFor(mediaType).writeValueAsBytes(request)))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(asyncResult)).andReturn();
+    }
+
+    private static AsyncApiImportBinaryRequest request(final String epToken, final String asyncApiSpec)
+    {
+        final AsyncApiImportBinaryRequest request = new AsyncApiImportBinaryRequest();
+        request.setEpToken(epToken == null ? null : epToken.getBytes(StandardCharsets.UTF_8));
+        request.setAsyncApiSpec(asyncApiSpec == null ? null : asyncApiSpec.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static AsyncApiImportResponse readResponse(final String mediaType, final MvcResult result) throws IOException
+    {
+        return mapperFor(mediaType).readValue(result.getResponse().getContentAsByteArray(), AsyncApiImportResponse.class);
+    }
+
+    private static ObjectMapper mapperFor(final String mediaType)
+    {
+        return MediaType.APPLICATION_CBOR_VALUE.equals(mediaType) ? new CBORMapper() : new SmileMapper();
+    }
+}
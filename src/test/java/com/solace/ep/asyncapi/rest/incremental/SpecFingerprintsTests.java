@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SpecFingerprintsTests {
+
+    private static final String SPEC = """
+        asyncapi: 2.6.0
+        info:
+          title: Orders
+          version: 1.0.0
+        servers:
+          production:
+            url: broker.acme.com:55555
+            protocol: smf
+        channels:
+          orders/created:
+            publish:
+              message:
+                $ref: '#/components/messages/OrderCreated'
+        components:
+          messages:
+            OrderCreated:
+              payload:
+                $ref: '#/components/schemas/Order'
+          schemas:
+            Order:
+              type: object
+              properties:
+                id:
+                  type: string
+        """;
+
+    @Test
+    void formattingChangeKeepsObjectFingerprints() throws Exception
+    {
+        final String reordered = SPEC.replace(
+            "      type: object\n      properties:\n        id:\n          type: string\n",
+            "      properties:\n        id:\n          type: string\n      type: object\n");
+        assertNotEquals(SPEC, reordered);
+        assertEquals(SpecFingerprints.compute(SPEC), SpecFingerprints.compute(reordered));
+    }
+
+    @Test
+    void unchangedSpecIsSkipped() throws Exception
+    {
+        final ImportFingerprint lastImport = lastImport(SPEC);
+        assertTrue(lastImport.isUnchanged(SpecFingerprints.compute(SPEC)));
+    }
+
+    @Test
+    void formattingChangeIsSkipped() throws Exception
+    {
+        // Reordered keys and JSON instead of YAML; the spec text differs but no object does
+        final String json = "{\"components\":{\"schemas\":{\"Order\":{\"properties\":{\"id\":{\"type\":\"string\"}},\"type\":\"object\"}}," +
+                    "\"messages\":{\"OrderCreated\":{\"payload\":{\"$ref\":\"#/components/schemas/Order\"}}}}," +
+                    "\"channels\":{\"orders/created\":{\"publish\":{\"message\":{\"$ref\":\"#/components/messages/OrderCreated\"}}}}," +
+                    "\"servers\":{\"production\":{\"protocol\":\"smf\",\"url\":\"broker.acme.com:55555\"}}," +
+                    "\"info\":{\"version\":\"1.0.0\",\"title\":\"Orders\"},\"asyncapi\":\"2.6.0\"}";
+        assertTrue(lastImport(SPEC).isUnchanged(SpecFingerprints.compute(json)));
+    }
+
+    @Test
+    void changedServersIsNotSkipped() throws Exception
+    {
+        final String changedServers = SPEC.replace("broker.acme.com:55555", "broker.acme.com:55443");
+        final Map<String, String> current = SpecFingerprints.compute(changedServers);
+        final ImportFingerprint lastImport = lastImport(SPEC);
+
+        assertNotEquals(lastImport.getObjects().get("section:servers"), current.get("section:servers"));
+        assertEquals(current.size() - 1, lastImport.countUnchanged(current));
+        assertFalse(lastImport.isUnchanged(current));
+    }
+
+    @Test
+    void addedComponentSectionIsNotSkipped() throws Exception
+    {
+        final String withSecurity = SPEC + "  securitySchemes:\n    user:\n      type: userPassword\n";
+        final Map<String, String> current = SpecFingerprints.compute(withSecurity);
+        assertTrue(current.containsKey("components:securitySchemes"));
+        assertFalse(lastImport(SPEC).isUnchanged(current));
+    }
+
+    @Test
+    void fingerprintsWithoutSectionsAreNotSkipped() throws Exception
+    {
+        // Fingerprints saved before sections were fingerprinted do not skip the next import
+        final ImportFingerprint lastImport = lastImport(SPEC);
+        lastImport.getObjects().keySet().removeIf(key -> key.startsWith("section:"));
+        assertFalse(lastImport.isUnchanged(SpecFingerprints.compute(SPEC)));
+    }
+
+    @Test
+    void changedSchemaIsNotSkipped() throws Exception
+    {
+        final String changedSchema = SPEC.replace("type: string", "type: integer");
+        final Map<String, String> current = SpecFingerprints.compute(changedSchema);
+        final ImportFingerprint lastImport = lastImport(SPEC);
+
+        assertEquals(current.size() - 1, lastImport.countUnchanged(current));
+        assertFalse(lastImport.isUnchanged(current));
+    }
+
+    @Test
+    void removedChannelIsCounted() throws Exception
+    {
+        final String noChannels = SPEC.substring(0, SPEC.indexOf("channels:")) + SPEC.substring(SPEC.indexOf("components:"));
+        final Map<String, String> current = SpecFingerprints.compute(noChannels);
+        assertEquals(1, lastImport(SPEC).countRemoved(current));
+    }
+
+    @Test
+    void specIdentityIsTitle() throws Exception
+    {
+        assertEquals("title:Orders", SpecFingerprints.specIdentity(SpecFingerprints.parse(SPEC)));
+        assertEquals("title:", SpecFingerprints.specIdentity(SpecFingerprints.parse("asyncapi: 2.6.0")));
+    }
+
+    @Test
+    void targetKeyDiffersBySpecIdentity()
+    {
+        assertNotEquals(
+            ImportFingerprintStore.targetKey("token", "https://api.solace.cloud", "domain", "title:Orders"),
+            ImportFingerprintStore.targetKey("token", "https://api.solace.cloud", "domain", "title:Payments"));
+    }
+
+    private static ImportFingerprint lastImport(final String spec) throws Exception
+    {
+        final ImportFingerprint importFingerprint = new ImportFingerprint();
+        importFingerprint.getObjects().putAll(SpecFingerprints.compute(spec));
+        return importFingerprint;
+    }
+}
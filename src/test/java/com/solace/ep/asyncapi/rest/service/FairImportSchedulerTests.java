@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class FairImportSchedulerTests {
+
+    @Test
+    void finishTagOrdersTenants()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 2);
+        final FairImportScheduler.Ticket blocker = scheduler.enqueue("hold", 1);
+        assertTrue(isGranted(blocker));
+
+        // Tenant A submits a batch of large imports before tenant B submits a small one
+        final FairImportScheduler.Ticket a1 = scheduler.enqueue("a", 4);
+        final FairImportScheduler.Ticket a2 = scheduler.enqueue("a", 4);
+        final FairImportScheduler.Ticket a3 = scheduler.enqueue("a", 4);
+        final FairImportScheduler.Ticket b1 = scheduler.enqueue("b", 1);
+        assertEquals(4, scheduler.getQueuedImports());
+
+        scheduler.release(blocker);
+        assertTrue(isGranted(b1));
+        assertFalse(isGranted(a1));
+
+        scheduler.release(b1);
+        assertTrue(isGranted(a1));
+        assertFalse(isGranted(a2));
+
+        scheduler.release(a1);
+        assertTrue(isGranted(a2));
+        scheduler.release(a2);
+        assertTrue(isGranted(a3));
+        scheduler.release(a3);
+        assertEquals(0, scheduler.getRunningImports());
+        assertEquals(0, scheduler.getQueuedImports());
+    }
+
+    @Test
+    void weightShortensFinishTag()
+    {
+        final ImportSchedulingProperties properties = properties(1, 2);
+        properties.getWeights().put("heavy", 4);
+        final FairImportScheduler scheduler = new FairImportScheduler(properties);
+        final FairImportScheduler.Ticket blocker = scheduler.enqueue("hold", 1);
+
+        final FairImportScheduler.Ticket light = scheduler.enqueue("light", 2);
+        final FairImportScheduler.Ticket heavy = scheduler.enqueue("heavy", 4);
+
+        scheduler.release(blocker);
+        assertTrue(isGranted(heavy));
+        assertFalse(isGranted(light));
+        scheduler.release(heavy);
+        assertTrue(isGranted(light));
+        scheduler.release(light);
+    }
+
+    @Test
+    void perTenantCapLimitsRunningImports()
+    {
+        final FairImportScheduler scheduler = scheduler(4, 2);
+        final FairImportScheduler.Ticket a1 = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket a2 = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket a3 = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket b1 = scheduler.enqueue("b", 1);
+
+        assertTrue(isGranted(a1));
+        assertTrue(isGranted(a2));
+        assertFalse(isGranted(a3));
+        // A slot is free, but only for other tenants
+        assertTrue(isGranted(b1));
+        assertEquals(3, scheduler.getRunningImports());
+        assertEquals(1, scheduler.getQueuedImports());
+
+        scheduler.release(a1);
+        assertTrue(isGranted(a3));
+        assertEquals(0, scheduler.getQueuedImports());
+    }
+
+    @Test
+    void perTenantCapOverride()
+    {
+        final ImportSchedulingProperties properties = properties(4, 1);
+        properties.getMaxConcurrent().put("batch", 3);
+        final FairImportScheduler scheduler = new FairImportScheduler(properties);
+
+        assertTrue(isGranted(scheduler.enqueue("batch", 1)));
+        assertTrue(isGranted(scheduler.enqueue("batch", 1)));
+        assertTrue(isGranted(scheduler.enqueue("batch", 1)));
+        assertFalse(isGranted(scheduler.enqueue("batch", 1)));
+    }
+
+    @Test
+    void releaseOfQueuedTicketRemovesItFromQueue()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 2);
+        final FairImportScheduler.Ticket running = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket queued = scheduler.enqueue("b", 1);
+        assertEquals(1, scheduler.getQueuedImports());
+
+        scheduler.release(queued);
+        assertEquals(0, scheduler.getQueuedImports());
+        assertEquals(1, scheduler.getRunningImports());
+
+        scheduler.release(running);
+        assertEquals(0, scheduler.getRunningImports());
+        assertFalse(isGranted(queued));
+    }
+
+    @Test
+    void repeatedReleaseFreesOneSlot()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 2);
+        final FairImportScheduler.Ticket first = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket second = scheduler.enqueue("b", 1);
+        final FairImportScheduler.Ticket third = scheduler.enqueue("c", 1);
+
+        scheduler.release(first);
+        scheduler.release(first);
+        assertTrue(isGranted(second));
+        assertFalse(isGranted(third));
+        assertEquals(1, scheduler.getRunningImports());
+    }
+
+    @Test
+    void cancelledTicketIsSkipped()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 2);
+        final FairImportScheduler.Ticket running = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket cancelled = scheduler.enqueue("b", 1);
+        final FairImportScheduler.Ticket next = scheduler.enqueue("c", 1);
+
+        assertFalse(isDecided(cancelled));
+        scheduler.cancel(cancelled);
+        assertTrue(isDecided(cancelled));
+        assertFalse(isGranted(cancelled));
+
+        scheduler.release(running);
+        assertTrue(isGranted(next));
+        scheduler.release(cancelled);
+        assertEquals(0, scheduler.getQueuedImports());
+    }
+
+    @Test
+    void cancelOfGrantedTicketHasNoEffect()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 1);
+        final FairImportScheduler.Ticket running = scheduler.enqueue("a", 1);
+        scheduler.cancel(running);
+        assertTrue(isGranted(running));
+        assertEquals(1, scheduler.getRunningImports());
+
+        scheduler.release(running);
+        assertEquals(0, scheduler.getRunningImports());
+    }
+
+    @Test
+    void decisionRunsDependentActionOnce()
+    {
+        final FairImportScheduler scheduler = scheduler(1, 1);
+        final FairImportScheduler.Ticket running = scheduler.enqueue("a", 1);
+        final FairImportScheduler.Ticket queued = scheduler.enqueue("b", 1);
+        final AtomicInteger granted = new AtomicInteger();
+        queued.decision().thenAccept(grant -> {
+            if (grant) {
+                granted.incrementAndGet();
+            }
+        });
+        assertEquals(0, granted.get());
+
+        scheduler.release(running);
+        assertEquals(1, granted.get());
+        // A late cancel does not change the decision
+        scheduler.cancel(queued);
+        assertEquals(1, granted.get());
+        assertTrue(isGranted(queued));
+    }
+
+    @Test
+    void disabledSchedulerGrantsImmediately()
+    {
+        final ImportSchedulingProperties properties = properties(1, 1);
+        properties.setEnabled(false);
+        final FairImportScheduler scheduler = new FairImportScheduler(properties);
+        assertTrue(isGranted(scheduler.enqueue("a", 1)));
+        assertTrue(isGranted(scheduler.enqueue("a", 1)));
+        assertEquals(0, scheduler.getQueuedImports());
+    }
+
+    @Test
+    void costGrowsWithSpecSize()
+    {
+        assertEquals(1, FairImportScheduler.costOf(0));
+        assertEquals(1, FairImportScheduler.costOf(16 * 1024 - 1));
+        assertEquals(2, FairImportScheduler.costOf(16 * 1024));
+    }
+
+    private static boolean isGranted(final FairImportScheduler.Ticket ticket)
+    {
+        final CompletableFuture<Boolean> decision = ticket.decision().toCompletableFuture();
+        return decision.isDone() && decision.join();
+    }
+
+    private static boolean isDecided(final FairImportScheduler.Ticket ticket)
+    {
+        return ticket.decision().toCompletableFuture().isDone();
+    }
+
+    private static FairImportScheduler scheduler(final int maxConcurrentImports, final int maxPerTenant)
+    {
+        return new FairImportScheduler(properties(maxConcurrentImports, maxPerTenant));
+    }
+
+    private static ImportSchedulingProperties properties(final int maxConcurrentImports, final int maxPerTenant)
+    {
+        final ImportSchedulingProperties properties = new ImportSchedulingProperties();
+        properties.setMaxConcurrentImports(maxConcurrentImports);
+        properties.setDefaultMaxConcurrentPerTenant(maxPerTenant);
+        return properties;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.solace.ep.asyncapi.rest.health.ImportLoadMonitor;
+import com.sun.net.httpserver.HttpServer;
+
+class ImportExecutionServiceTests {
+
+    // Time the stubbed Solace Cloud API takes to respond
+    private static final long SLOW_CALL_MS = 3_000;
+
+    private static final long TIMEOUT_MS = 200;
+
+    private HttpServer slowCloudApi;
+
+    private FairImportScheduler scheduler;
+
+    private ImportExecutionService service;
+
+    @BeforeEach
+    void setUp() throws IOException
+    {
+        slowCloudApi = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        slowCloudApi.createContext("/", exchange -> {
+            try {
+                Thread.sleep(SLOW_CALL_MS);
+            } catch (InterruptedException interruptedExc) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] bytes = "{\"data\":{}}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        slowCloudApi.start();
+
+        final ImportSchedulingProperties properties = new ImportSchedulingProperties();
+        properties.setMaxConcurrentImports(1);
+        scheduler = new FairImportScheduler(properties);
+        service = new ImportExecutionService(new ImportLoadMonitor(scheduler), scheduler, properties, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        service.shutdown();
+        slowCloudApi.stop(0);
+    }
+
+    @Test
+    void deadlineIsNotDelayedBySlowCloudApiCall() throws Exception
+    {
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        assertTrue(service.reserve("slow-import"));
+        final long startedAt = System.nanoTime();
+        final CompletableFuture<Void> completion = service.execute("slow-import", "tenant", 1, "slow-import-", TIMEOUT_MS,
+                    () -> callSlowCloudApi(callStarted));
+
+        final ExecutionException stopped = assertThrows(ExecutionException.class, () -> completion.get(SLOW_CALL_MS / 2, TimeUnit.MILLISECONDS));
+        final long stoppedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        assertTrue(callStarted.await(0, TimeUnit.MILLISECONDS), "Cloud API call was not made");
+        assertTrue(assertInstanceOf(ImportCancelledException.class, stopped.getCause()).isDeadlineExceeded());
+        assertTrue(stoppedAfterMs < SLOW_CALL_MS / 2, "Deadline response took " + stoppedAfterMs + " ms");
+
+        assertSlotHeldUntilCallReturns("slow-import");
+    }
+
+    @Test
+    void cancelIsNotDelayedBySlowCloudApiCall() throws Exception
+    {
+        final CountDownLatch callStarted = new CountDownLatch(1);
+        assertTrue(service.reserve("cancelled-import"));
+        final CompletableFuture<Void> completion = service.execute("cancelled-import", "tenant", 1, "cancelled-import-", 0,
+                    () -> callSlowCloudApi(callStarted));
+        assertTrue(callStarted.await(SLOW_CALL_MS, TimeUnit.MILLISECONDS), "Cloud API call was not made");
+
+        final long cancelledAt = System.nanoTime();
+        assertTrue(service.cancel("cancelled-import"));
+        final ExecutionException stopped = assertThrows(ExecutionException.class, () -> completion.get(SLOW_CALL_MS / 2, TimeUnit.MILLISECONDS));
+        final long stoppedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cancelledAt);
+        assertFalse(assertInstanceOf(ImportCancelledException.class, stopped.getCause()).isDeadlineExceeded());
+        assertTrue(stoppedAfterMs < SLOW_CALL_MS / 2, "Cancel response took " + stoppedAfterMs + " ms");
+
+        assertSlotHeldUntilCallReturns("cancelled-import");
+    }
+
+    /*
+     * The worker keeps its scheduling slot and the import ID until the call returns
+     */
+    private void assertSlotHeldUntilCallReturns(final String importId) throws InterruptedException
+    {
+        assertEquals(1, scheduler.getRunningImports());
+        assertFalse(service.reserve(importId));
+
+        final long deadline = System.currentTimeMillis() + SLOW_CALL_MS * 2;
+        while (scheduler.getRunningImports() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, scheduler.getRunningImports());
+        // The reservation is released just after the slot
+        boolean reserved;
+        while (!(reserved = service.reserve(importId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(reserved, "Import ID " + importId + " was not released");
+        service.release(importId);
+    }
+
+    /*
+     * Blocking socket reads do not observe interrupts, like a Solace Cloud API call made by the importer
+     */
+    private void callSlowCloudApi(final CountDownLatch callStarted) throws IOException
+    {
+        callStarted.countDown();
+        final InetSocketAddress address = slowCloudApi.getAddress();
+        try (InputStream response = URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/api/v2/slow")
+                    .toURL().openStream()) {
+            response.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse;
+import com.solace.ep.asyncapi.rest.models.AsyncApiImportAppDomainResponse.AppDomainItem;
+
+class AppDomainQueryTests {
+
+    @Test
+    void noQueryReturnsResponseUnchanged()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("Orders", "payments");
+        assertSame(upstream, AppDomainQuery.of(null, "", null, null).apply(upstream));
+    }
+
+    @Test
+    void errorResponseIsNotFiltered()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> error =
+                    new ResponseEntity<>(new AsyncApiImportAppDomainResponse(), HttpStatus.UNAUTHORIZED);
+        assertSame(error, AppDomainQuery.of("a", null, null, 10).apply(error));
+    }
+
+    @Test
+    void filtersAreCaseInsensitive()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("Orders", "Back Orders", "payments", "ORDERS-EU");
+        assertEquals(List.of("Orders", "Back Orders", "ORDERS-EU"), names(AppDomainQuery.of("ORDER", null, null, null).apply(upstream)));
+        assertEquals(List.of("Orders", "ORDERS-EU"), names(AppDomainQuery.of(null, "orders", null, null).apply(upstream)));
+        assertEquals(List.of("ORDERS-EU"), names(AppDomainQuery.of("-eu", "ord", null, null).apply(upstream)));
+        assertEquals(List.of(), names(AppDomainQuery.of("shipping", null, null, null).apply(upstream)));
+    }
+
+    @Test
+    void filterOnlyKeepsUpstreamOrderAndMessages()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("b-domain", "a-domain");
+        upstream.getBody().getMsgs().add("upstream message");
+        final ResponseEntity<AsyncApiImportAppDomainResponse> filtered = AppDomainQuery.of("domain", null, null, null).apply(upstream);
+        assertEquals(List.of("b-domain", "a-domain"), names(filtered));
+        assertEquals(List.of("upstream message"), filtered.getBody().getMsgs());
+        assertNull(filtered.getBody().getNextCursor());
+    }
+
+    @Test
+    void pagesCoverEveryDomainOnceInNameOrder()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("delta", "Alpha", "charlie", "bravo", "echo");
+        final List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            final AsyncApiImportAppDomainResponse page = AppDomainQuery.of(null, null, cursor, 2).apply(upstream).getBody();
+            seen.addAll(names(page));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        assertEquals(List.of("Alpha", "bravo", "charlie", "delta", "echo"), seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("a", "b");
+        assertNull(AppDomainQuery.of(null, null, null, 2).apply(upstream).getBody().getNextCursor());
+        assertNotNull(AppDomainQuery.of(null, null, null, 1).apply(upstream).getBody().getNextCursor());
+    }
+
+    @Test
+    void sameNameIsOrderedById()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = new ResponseEntity<>(response(
+                    new AppDomainItem("id-2", "Shared"), new AppDomainItem("id-1", "shared"), new AppDomainItem("id-3", "Shared")), HttpStatus.OK);
+        final AsyncApiImportAppDomainResponse first = AppDomainQuery.of(null, null, null, 1).apply(upstream).getBody();
+        assertEquals("id-1", first.getApplicationDomains().get(0).getId());
+        final AsyncApiImportAppDomainResponse rest = AppDomainQuery.of(null, null, first.getNextCursor(), 10).apply(upstream).getBody();
+        assertEquals(List.of("id-2", "id-3"), rest.getApplicationDomains().stream().map(AppDomainItem::getId).toList());
+    }
+
+    @Test
+    void insertsAndDeletesBetweenPagesDoNotSkipOrRepeat()
+    {
+        final AsyncApiImportAppDomainResponse first = AppDomainQuery.of(null, null, null, 2)
+                    .apply(upstream("alpha", "bravo", "charlie", "delta")).getBody();
+        assertEquals(List.of("alpha", "bravo"), names(first));
+
+        // 'bravo' deleted, 'aardvark' inserted before the cursor, 'bravo-2' inserted after it
+        final AsyncApiImportAppDomainResponse second = AppDomainQuery.of(null, null, first.getNextCursor(), 2)
+                    .apply(upstream("aardvark", "alpha", "bravo-2", "charlie", "delta")).getBody();
+        assertEquals(List.of("bravo-2", "charlie"), names(second));
+
+        final AsyncApiImportAppDomainResponse third = AppDomainQuery.of(null, null, second.getNextCursor(), 2)
+                    .apply(upstream("aardvark", "alpha", "bravo-2", "charlie", "delta")).getBody();
+        assertEquals(List.of("delta"), names(third));
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void pagingAppliesToFilteredDomains()
+    {
+        final ResponseEntity<AsyncApiImportAppDomainResponse> upstream = upstream("orders-a", "payments", "orders-b", "orders-c");
+        final AsyncApiImportAppDomainResponse first = AppDomainQuery.of("orders", null, null, 2).apply(upstream).getBody();
+        assertEquals(List.of("orders-a", "orders-b"), names(first));
+        final AsyncApiImportAppDomainResponse second = AppDomainQuery.of("orders", null, first.getNextCursor(), 2).apply(upstream).getBody();
+        assertEquals(List.of("orders-c"), names(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void limitBounds()
+    {
+        assertThrows(IllegalArgumentException.class, () -> AppDomainQuery.of(null, null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> AppDomainQuery.of(null, null, null, AppDomainQuery.MAX_LIMIT + 1));
+        assertEquals(AppDomainQuery.MAX_LIMIT, AppDomainQuery.of(null, null, null, AppDomainQuery.MAX_LIMIT).getLimit());
+        assertEquals(0, AppDomainQuery.of(null, null, null, null).getLimit());
+    }
+
+    @Test
+    void invalidCursorIsRejected()
+    {
+        assertThrows(IllegalArgumentException.class, () -> AppDomainQuery.of(null, null, "not base64!", 10));
+        final String offsetCursor = Base64.getUrlEncoder().withoutPadding().encodeToString("offset:10".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> AppDomainQuery.of(null, null, offsetCursor, 10));
+    }
+
+    private static ResponseEntity<AsyncApiImportAppDomainResponse> upstream(final String... names)
+    {
+        return new ResponseEntity<>(response(Stream.of(names)
+                    .map(name -> new AppDomainItem("id-" + name.toLowerCase(), name))
+                    .toArray(AppDomainItem[]::new)), HttpStatus.OK);
+    }
+
+    private static AsyncApiImportAppDomainResponse response(final AppDomainItem... appDomains)
+    {
+        final AsyncApiImportAppDomainResponse response = new AsyncApiImportAppDomainResponse();
+        response.getApplicationDomains().addAll(List.of(appDomains));
+        return response;
+    }
+
+    private static List<String> names(final ResponseEntity<AsyncApiImportAppDomainResponse> responseEntity)
+    {
+        return names(responseEntity.getBody());
+    }
+
+    private static List<String> names(final AsyncApiImportAppDomainResponse response)
+    {
+        return response.getApplicationDomains().stream().map(AppDomainItem::getName).toList();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.rest.watch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.solace.ep.asyncapi.rest.models.WatchedFileStatus;
+import com.solace.ep.asyncapi.rest.warmup.SyntheticSpec;
+import com.solace.ep.asyncapi.rest.warmup.WarmupStubServer;
+
+/**
+ * Directory-watch imports run end to end against the in-process stub of the Solace
+ * Cloud API (urlOverride)
+ */
+@SpringBootTest(properties = {
+    "importer.journal.directory=${java.io.tmpdir}/asyncapi-importer-watch-tests/journal",
+    "importer.incremental.directory=${java.io.tmpdir}/asyncapi-importer-watch-tests/fingerprints",
+    "importer.watch.enabled=true",
+    "importer.watch.debounce-ms=100",
+    "importer.watch.import-on-start=false"
+})
+class SpecDirectoryWatcherTests {
+
+    private static final long IMPORT_TIMEOUT_MS = 30_000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static WarmupStubServer stubServer;
+
+    private static Path watchedDirectory;
+
+    @Autowired
+    private SpecDirectoryWatcher specDirectoryWatcher;
+
+    @DynamicPropertySource
+    static void watchProperties(final DynamicPropertyRegistry registry) throws IOException
+    {
+        stubServer = WarmupStubServer.start();
+        watchedDirectory = Files.createTempDirectory("asyncapi-importer-watch-tests");
+        registry.add("importer.watch.mappings[0].directory", watchedDirectory::toString);
+        registry.add("importer.watch.mappings[0].app-domain-id", () -> WarmupStubServer.STUB_DOMAIN_ID);
+        registry.add("importer.watch.mappings[0].ep-token", () -> "watch-test-token");
+        registry.add("importer.watch.mappings[0].url-override", stubServer::getUrl);
+    }
+
+    @AfterAll
+    static void stopStub()
+    {
+        stubServer.close();
+    }
+
+    @Test
+    void revertedFileIsImportedAgain() throws Exception
+    {
+        final Path specFile = watchedDirectory.resolve("orders.json");
+        final byte[] specA = objectMapper.writeValueAsBytes(SyntheticSpec.create("Watch Test", 1));
+        final byte[] specB = objectMapper.writeValueAsBytes(SyntheticSpec.create("Watch Test", 2));
+
+        Files.write(specFile, specA);
+        final String firstImportId = awaitImport(specFile, Set.of());
+        Files.write(specFile, specB);
+        final String secondImportId = awaitImport(specFile, Set.of(firstImportId));
+
+        // Content A was imported under the first ID; reverting to it must run a new import
+        // rather than replaying the completed import recorded in the journal
+        Files.write(specFile, specA);
+        final String thirdImportId = awaitImport(specFile, Set.of(firstImportId, secondImportId));
+        assertNotEquals(firstImportId, thirdImportId);
+    }
+
+    /*
+     * Wait for an import of the file with an import ID other than the previous ones
+     */
+    private String awaitImport(final Path specFile, final Set<String> previousImportIds) throws InterruptedException
+    {
+        final long deadline = System.currentTimeMillis() + IMPORT_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            for (WatchedFileStatus file : specDirectoryWatcher.getStatus().getFiles()) {
+                if (file.getPath().equals(specFile.toAbsolutePath().normalize().toString()) &&
+                        file.getImportId() != null && !previousImportIds.contains(file.getImportId()) &&
+                        file.getStatus() != WatchedFileStatus.Status.PENDING &&
+                        file.getStatus() != WatchedFileStatus.Status.IMPORTING) {
+                    assertEquals(WatchedFileStatus.Status.IMPORTED, file.getStatus(), "Import failed: " + file.getSummary());
+                    return file.getImportId();
+                }
+            }
+            Thread.sleep(50);
+        }
+        fail("Spec file [" + specFile + "] was not imported within " + IMPORT_TIMEOUT_MS + " ms");
+        return null;
+    }
+}